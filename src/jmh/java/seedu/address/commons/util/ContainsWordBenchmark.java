@@ -0,0 +1,112 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares ways of matching keywords against every name of an address book, as a keyword find does.
+ * {@code regexSplit} is the previous implementation of {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ * Run with {@code -prof gc} to compare the allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainsWordBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George"};
+    private static final String[] LAST_NAMES = {"Pauline", "Meier", "Kurz", "Kunz", "Best", "Tan", "Lim", "Wong"};
+
+    @Param({"100000"})
+    private int size;
+
+    private List<String> names;
+    private List<String> words;
+    private List<Keyword> keywords;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + i);
+        }
+        words = List.of("kurz", "Elle");
+        keywords = Keyword.of(words);
+    }
+
+    /**
+     * Matches the keywords by splitting each name with a regular expression, as was done before.
+     */
+    @Benchmark
+    public int regexSplit() {
+        int matches = 0;
+        for (String name : names) {
+            for (String word : words) {
+                if (containsWordIgnoreCaseBySplitting(name, word)) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Matches the keywords with {@link StringUtil#containsWordIgnoreCase(String, String)}, which checks each
+     * keyword again for every name.
+     */
+    @Benchmark
+    public int containsWordIgnoreCase() {
+        int matches = 0;
+        for (String name : names) {
+            for (String word : words) {
+                if (StringUtil.containsWordIgnoreCase(name, word)) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Matches keywords that were checked once up front, as a keyword find does now.
+     */
+    @Benchmark
+    public int preValidatedKeywords() {
+        int matches = 0;
+        for (String name : names) {
+            if (Keyword.anyIsWordIn(keywords, name)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static boolean containsWordIgnoreCaseBySplitting(String sentence, String word) {
+        String preppedWord = word.trim();
+        AppUtil.checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        AppUtil.checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        return Arrays.stream(sentence.split("\\s+")).anyMatch(preppedWord::equalsIgnoreCase);
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.address.logic;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BUYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ABOUT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_AFTER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_BEFORE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_WITH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KEYWORDS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OWNER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE_ABOVE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE_BELOW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SELLER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE_ABOVE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE_BELOW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.client.FindClientCommand;
+import seedu.address.logic.commands.deal.FindDealCommand;
+import seedu.address.logic.commands.event.FindEventCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.property.FindPropertyCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Measures every {@code find_*} command from parsing the user input to filtering the shown list, on generated
+ * address books of {@code size} clients, properties, deals and events.
+ * Each benchmark returns the number of entities shown after the find.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindCommandBenchmark {
+
+    private static final long SEED = 2103;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private Model model;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        FindClientCommand.addCommandWord();
+        FindPropertyCommand.addCommandWord();
+        FindDealCommand.addCommandWord();
+        FindEventCommand.addCommandWord();
+        model = new ModelManager(SampleDataGenerator.generateAddressBook(SEED, size), new UserPrefs());
+    }
+
+    /**
+     * Finds clients by name keywords.
+     */
+    @Benchmark
+    public int findClientByName() throws Exception {
+        find(FindClientCommand.COMMAND_WORD + " " + PREFIX_KEYWORDS + "Alex Tan");
+        return model.getFilteredClientList().size();
+    }
+
+    /**
+     * Finds clients by a fragment of their phone number.
+     */
+    @Benchmark
+    public int findClientByPhone() throws Exception {
+        find(FindClientCommand.COMMAND_WORD + " " + PREFIX_PHONE + "0042");
+        return model.getFilteredClientList().size();
+    }
+
+    /**
+     * Finds clients by a fragment of their email.
+     */
+    @Benchmark
+    public int findClientByEmail() throws Exception {
+        find(FindClientCommand.COMMAND_WORD + " " + PREFIX_EMAIL + "grace.lim");
+        return model.getFilteredClientList().size();
+    }
+
+    /**
+     * Finds clients by a fragment of their address or by a name keyword.
+     */
+    @Benchmark
+    public int findClientByAddressOrName() throws Exception {
+        find(FindClientCommand.COMMAND_WORD + " " + PREFIX_ADDRESS + "Tampines "
+                + PREFIX_KEYWORDS.getOrPrefix() + "Siti");
+        return model.getFilteredClientList().size();
+    }
+
+    /**
+     * Finds properties by name keywords.
+     */
+    @Benchmark
+    public int findPropertyByName() throws Exception {
+        find(FindPropertyCommand.COMMAND_WORD + " " + PREFIX_KEYWORDS + "Maple Villa");
+        return model.getFilteredPropertyList().size();
+    }
+
+    /**
+     * Finds properties by an owner keyword and a lower bound on price.
+     */
+    @Benchmark
+    public int findPropertyByOwnerAndPrice() throws Exception {
+        find(FindPropertyCommand.COMMAND_WORD + " " + PREFIX_OWNER + "Ravi " + PREFIX_PRICE_ABOVE.getAndPrefix()
+                + "500000");
+        return model.getFilteredPropertyList().size();
+    }
+
+    /**
+     * Finds properties with a size between two bounds.
+     */
+    @Benchmark
+    public int findPropertyBySizeRange() throws Exception {
+        find(FindPropertyCommand.COMMAND_WORD + " " + PREFIX_SIZE_ABOVE + "1000 " + PREFIX_SIZE_BELOW.getAndPrefix()
+                + "1200");
+        return model.getFilteredPropertyList().size();
+    }
+
+    /**
+     * Finds properties by a fragment of their address.
+     */
+    @Benchmark
+    public int findPropertyByAddress() throws Exception {
+        find(FindPropertyCommand.COMMAND_WORD + " " + PREFIX_ADDRESS + "Street 42");
+        return model.getFilteredPropertyList().size();
+    }
+
+    /**
+     * Finds deals by status and an upper bound on price.
+     */
+    @Benchmark
+    public int findDealByStatusAndPrice() throws Exception {
+        find(FindDealCommand.COMMAND_WORD + " " + PREFIX_STATUS + "PENDING " + PREFIX_PRICE_BELOW.getAndPrefix()
+                + "200000");
+        return model.getFilteredDealList().size();
+    }
+
+    /**
+     * Finds deals by a keyword matching either the buyer or the seller.
+     */
+    @Benchmark
+    public int findDealByBuyerOrSeller() throws Exception {
+        find(FindDealCommand.COMMAND_WORD + " " + PREFIX_BUYER + "Jasmine " + PREFIX_SELLER.getOrPrefix()
+                + "Jasmine");
+        return model.getFilteredDealList().size();
+    }
+
+    /**
+     * Finds deals by a property name keyword.
+     */
+    @Benchmark
+    public int findDealByProperty() throws Exception {
+        find(FindDealCommand.COMMAND_WORD + " " + PREFIX_PROPERTY_NAME + "Harbour");
+        return model.getFilteredDealList().size();
+    }
+
+    /**
+     * Finds events by type and a client name keyword.
+     */
+    @Benchmark
+    public int findEventByTypeAndClient() throws Exception {
+        find(FindEventCommand.COMMAND_WORD + " " + PREFIX_EVENT_WITH + "Daniel " + PREFIX_EVENT_TYPE.getAndPrefix()
+                + "meeting");
+        return model.getFilteredEventList().size();
+    }
+
+    /**
+     * Finds events by a property name keyword.
+     */
+    @Benchmark
+    public int findEventAboutProperty() throws Exception {
+        find(FindEventCommand.COMMAND_WORD + " " + PREFIX_EVENT_ABOUT + "Skyline");
+        return model.getFilteredEventList().size();
+    }
+
+    /**
+     * Finds events starting within a month.
+     */
+    @Benchmark
+    public int findEventInTimeRange() throws Exception {
+        find(FindEventCommand.COMMAND_WORD + " " + PREFIX_EVENT_AFTER + "01-03-2025 0900 "
+                + PREFIX_EVENT_BEFORE.getAndPrefix() + "01-04-2025 0900");
+        return model.getFilteredEventList().size();
+    }
+
+    private void find(String userInput) throws ParseException, CommandException {
+        parser.parseCommand(userInput).execute(model);
+    }
+}
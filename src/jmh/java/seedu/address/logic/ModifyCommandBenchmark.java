@@ -0,0 +1,198 @@
+package seedu.address.logic;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLIENT_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLIENT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_NOTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_START;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OWNER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.client.AddClientCommand;
+import seedu.address.logic.commands.client.DeleteClientCommand;
+import seedu.address.logic.commands.client.EditClientCommand;
+import seedu.address.logic.commands.deal.UpdateDealCommand;
+import seedu.address.logic.commands.event.AddEventCommand;
+import seedu.address.logic.commands.event.DeleteEventCommand;
+import seedu.address.logic.commands.event.EditEventCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.property.AddPropertyCommand;
+import seedu.address.logic.commands.property.DeletePropertyCommand;
+import seedu.address.logic.commands.property.EditPropertyCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.client.Client;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Measures the add, edit and delete commands from parsing the user input to updating the model, on generated
+ * address books of {@code size} clients, properties, deals and events.
+ * Each benchmark makes a change and then undoes it with another command, so that every invocation starts from the
+ * same address book. The renames of clients and properties also rewrite the deals and events referring to them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModifyCommandBenchmark {
+
+    private static final long SEED = 2103;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private Model model;
+    private int middle;
+    private Client middleClient;
+    private Property middleProperty;
+    private Event middleEvent;
+    private DealStatus middleDealStatus;
+    private DealStatus otherDealStatus;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AddClientCommand.addCommandWord();
+        AddPropertyCommand.addCommandWord();
+        AddEventCommand.addCommandWord();
+        EditClientCommand.addCommandWord();
+        EditPropertyCommand.addCommandWord();
+        EditEventCommand.addCommandWord();
+        UpdateDealCommand.addCommandWord();
+        DeleteClientCommand.addCommandWord();
+        DeletePropertyCommand.addCommandWord();
+        DeleteEventCommand.addCommandWord();
+        model = new ModelManager(SampleDataGenerator.generateAddressBook(SEED, size), new UserPrefs());
+        middle = size / 2;
+        middleClient = model.getFilteredClientList().get(middle - 1);
+        middleProperty = model.getFilteredPropertyList().get(middle - 1);
+        middleEvent = model.getFilteredEventList().get(middle - 1);
+        Deal middleDeal = model.getFilteredDealList().get(middle - 1);
+        middleDealStatus = middleDeal.getStatus();
+        otherDealStatus = middleDealStatus == DealStatus.OPEN ? DealStatus.PENDING : DealStatus.OPEN;
+    }
+
+    /**
+     * Adds a client and then deletes it.
+     */
+    @Benchmark
+    public void addAndDeleteClient() throws Exception {
+        execute(AddClientCommand.COMMAND_WORD + " " + PREFIX_CLIENT_NAME + "Benchmark Client "
+                + PREFIX_PHONE + "69999999 " + PREFIX_EMAIL + "benchmark@example.com "
+                + PREFIX_ADDRESS + "1 Benchmark Road");
+        execute(DeleteClientCommand.COMMAND_WORD + " " + model.getFilteredClientList().size());
+    }
+
+    /**
+     * Adds a property owned by the middle client and then deletes it.
+     */
+    @Benchmark
+    public void addAndDeleteProperty() throws Exception {
+        execute(AddPropertyCommand.COMMAND_WORD + " " + PREFIX_PROPERTY_NAME + "Benchmark Villa "
+                + PREFIX_OWNER + middle + " " + PREFIX_ADDRESS + "1 Benchmark Road " + PREFIX_PRICE + "2400");
+        execute(DeletePropertyCommand.COMMAND_WORD + " " + model.getFilteredPropertyList().size());
+    }
+
+    /**
+     * Adds an event with the middle client and property and then deletes it.
+     */
+    @Benchmark
+    public void addAndDeleteEvent() throws Exception {
+        // after every generated event, so that it is shown last
+        execute(AddEventCommand.COMMAND_WORD + " " + PREFIX_EVENT_START + "01-01-2099 0900 "
+                + PREFIX_EVENT_TYPE + "meeting " + PREFIX_CLIENT_ID + middle + " " + PREFIX_PROPERTY_ID + middle
+                + " " + PREFIX_EVENT_NOTE + "Benchmark");
+        execute(DeleteEventCommand.COMMAND_WORD + " " + model.getFilteredEventList().size());
+    }
+
+    /**
+     * Changes the phone number of the middle client and then changes it back.
+     */
+    @Benchmark
+    public void editClientPhone() throws Exception {
+        execute(EditClientCommand.COMMAND_WORD + " " + middle + " " + PREFIX_PHONE + "69999999");
+        execute(EditClientCommand.COMMAND_WORD + " " + middle + " " + PREFIX_PHONE + middleClient.getPhone());
+    }
+
+    /**
+     * Changes the price of the middle property and then changes it back.
+     */
+    @Benchmark
+    public void editPropertyPrice() throws Exception {
+        long price = middleProperty.getPrice().value;
+        execute(EditPropertyCommand.COMMAND_WORD + " " + middle + " " + PREFIX_PRICE + (price == 100 ? 101 : 100));
+        execute(EditPropertyCommand.COMMAND_WORD + " " + middle + " " + PREFIX_PRICE + price);
+    }
+
+    /**
+     * Changes the note of the middle event and then changes it back.
+     */
+    @Benchmark
+    public void editEventNote() throws Exception {
+        execute(EditEventCommand.COMMAND_WORD + " " + middle + " " + PREFIX_EVENT_NOTE + "Benchmark");
+        execute(EditEventCommand.COMMAND_WORD + " " + middle + " " + PREFIX_EVENT_NOTE + middleEvent.getNote());
+    }
+
+    /**
+     * Changes the status of the middle deal and then changes it back.
+     */
+    @Benchmark
+    public void updateDealStatus() throws Exception {
+        execute(UpdateDealCommand.COMMAND_WORD + " " + middle + " " + PREFIX_STATUS + otherDealStatus);
+        execute(UpdateDealCommand.COMMAND_WORD + " " + middle + " " + PREFIX_STATUS + middleDealStatus);
+    }
+
+    /**
+     * Renames the middle client and then renames it back.
+     */
+    @Benchmark
+    public void renameClient() throws Exception {
+        execute(EditClientCommand.COMMAND_WORD + " " + middle + " " + PREFIX_CLIENT_NAME + "Benchmark Client");
+        execute(EditClientCommand.COMMAND_WORD + " " + middle + " " + PREFIX_CLIENT_NAME
+                + middleClient.getFullName());
+    }
+
+    /**
+     * Renames the middle property and then renames it back.
+     */
+    @Benchmark
+    public void renameProperty() throws Exception {
+        execute(EditPropertyCommand.COMMAND_WORD + " " + middle + " " + PREFIX_PROPERTY_NAME + "Benchmark Villa");
+        execute(EditPropertyCommand.COMMAND_WORD + " " + middle + " " + PREFIX_PROPERTY_NAME
+                + middleProperty.getFullName());
+    }
+
+    private void execute(String userInput) throws ParseException, CommandException {
+        parser.parseCommand(userInput).execute(model);
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.client;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.commons.Address;
+
+/**
+ * Measures the cost of the duplicate checks performed when a client is edited.
+ * The time per operation should stay flat as {@code size} grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueClientListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private UniqueClientList clients;
+    private Index middleIndex;
+    private Client original;
+    private Client edited;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        clients = new UniqueClientList();
+        for (int i = 0; i < size; i++) {
+            clients.add(createClient(i, "Street " + i));
+        }
+        middleIndex = Index.fromZeroBased(size / 2);
+        original = clients.asUnmodifiableObservableList().get(middleIndex.getZeroBased());
+        edited = createClient(middleIndex.getZeroBased(), "Edited Street");
+    }
+
+    /**
+     * Checks whether the edited client would duplicate any client other than the one being edited.
+     */
+    @Benchmark
+    public boolean containsExcludingIndex() {
+        return clients.contains(edited, middleIndex);
+    }
+
+    /**
+     * Edits a client and then restores it, which checks for duplicates and updates the indexes twice.
+     */
+    @Benchmark
+    public void editClient() {
+        clients.setClient(original, edited);
+        clients.setClient(edited, original);
+    }
+
+    private static Client createClient(int id, String address) {
+        return new Client(new ClientName("Client " + id), new Phone(String.format("8%07d", id)),
+                new Email("client" + id + "@example.com"), new Address(address));
+    }
+}
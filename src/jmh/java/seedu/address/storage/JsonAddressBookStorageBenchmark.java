@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Measures loading and saving generated address books of {@code size} clients, properties, deals and events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    private static final long SEED = 2103;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ReadOnlyAddressBook addressBook;
+    private Path loadFile;
+    private Path saveFile;
+    private JsonAddressBookStorage storage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = SampleDataGenerator.generateAddressBook(SEED, size);
+        loadFile = Files.createTempFile("addressbook-load", ".json");
+        saveFile = Files.createTempFile("addressbook-save", ".json");
+        storage = new JsonAddressBookStorage(loadFile);
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the data files written by the benchmark.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(loadFile);
+        Files.deleteIfExists(saveFile);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataLoadingException {
+        return storage.readAddressBook().orElseThrow();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook, saveFile);
+    }
+}
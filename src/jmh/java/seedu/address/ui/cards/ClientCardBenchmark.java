@@ -0,0 +1,81 @@
+package seedu.address.ui.cards;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.scene.layout.Region;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Phone;
+import seedu.address.model.commons.Address;
+
+/**
+ * Measures the cost of showing another client in a list cell, by creating a new card as the list cells used to, and
+ * by reusing the card of the cell. The cards are not attached to a scene, so they are updated off the JavaFX
+ * application thread without a test harness.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientCardBenchmark {
+
+    private static final int CLIENT_COUNT = 1000;
+
+    private final Client[] clients = new Client[CLIENT_COUNT];
+    private ClientCard reusedCard;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException e) {
+            // the toolkit has already been started
+        }
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            clients[i] = new Client(new ClientName("Client " + i), new Phone(String.format("8%07d", i)),
+                    new Email("client" + i + "@example.com"), new Address("Street " + i));
+        }
+        reusedCard = new ClientCard();
+    }
+
+    /**
+     * Shows the next client by loading a new card from its FXML file, as the list cells used to.
+     */
+    @Benchmark
+    public Region newCardPerUpdate() {
+        Client client = nextClient();
+        return new ClientCard(client, next).getRoot();
+    }
+
+    /**
+     * Shows the next client by updating the labels of a card that was loaded once.
+     */
+    @Benchmark
+    public Region reusedCardPerUpdate() {
+        Client client = nextClient();
+        reusedCard.setClient(client, next);
+        return reusedCard.getRoot();
+    }
+
+    private Client nextClient() {
+        next = next % CLIENT_COUNT + 1;
+        return clients[next - 1];
+    }
+}
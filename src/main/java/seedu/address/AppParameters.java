@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,15 +10,21 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** The script path that stands for reading the script from standard input. */
+    public static final Path STANDARD_INPUT_SCRIPT_PATH = Paths.get("-");
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private int saveInterval;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +34,53 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script to run without the GUI, or null if the GUI should be started.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the number of script commands between saves of the address book, or 0 to save only at the end.
+     */
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
+    public void setSaveInterval(int saveInterval) {
+        this.saveInterval = saveInterval;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw application command-line arguments, for use before JavaFX is started.
+     * Named parameters are given as {@code --name=value}, in the same way as for JavaFX, and other arguments are
+     * ignored.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +89,30 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". Starting the GUI instead.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String saveIntervalParameter = namedParameters.get("save-every");
+        if (saveIntervalParameter != null) {
+            appParameters.setSaveInterval(parseSaveInterval(saveIntervalParameter));
+        }
+
         return appParameters;
     }
 
+    private static int parseSaveInterval(String saveIntervalParameter) {
+        String trimmedParameter = saveIntervalParameter.trim();
+        if (trimmedParameter.equals("0") || StringUtil.isNonZeroUnsignedInteger(trimmedParameter)) {
+            return Integer.parseInt(trimmedParameter);
+        }
+        logger.warning("Invalid save interval " + saveIntervalParameter + ". Saving only at the end of the script.");
+        return 0;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +125,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && saveInterval == otherAppParameters.saveInterval;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, saveInterval);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("saveInterval", saveInterval)
                 .toString();
     }
 }
@@ -20,11 +20,18 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --script=<file>}, or {@code --script=-} to read standard input, the commands in the script are run
+ * without starting JavaFX, saving every {@code --save-every=<n>} commands and at the end of the script.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getScriptPath() != null) {
+            System.exit(new MainApp().runScript(appParameters));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
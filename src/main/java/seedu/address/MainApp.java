@@ -1,9 +1,14 @@
 package seedu.address;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import javax.management.JMException;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -12,22 +17,29 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.MBeanUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.logic.LogicGauges;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.ScriptReport;
+import seedu.address.logic.ScriptRunner;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelGauges;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
+import seedu.address.storage.StorageGauges;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -46,25 +58,103 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private ModelGauges modelGauges;
+    private StorageGauges storageGauges;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        UserPrefs userPrefs = initStorage(appParameters);
+        initModel(initModelManager(storage, userPrefs));
+
+        LogicManager logicManager = new LogicManager(model, storage);
+        logic = logicManager;
+        initMonitoring(logicManager);
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Registers the gauges of the model, logic and storage with JMX, so that the running application can be watched
+     * in JDK Mission Control or JConsole. The application runs on without them if they cannot be registered.
+     */
+    private void initMonitoring(LogicGauges logicGauges) {
+        try {
+            MBeanUtil.register("Model", modelGauges, ModelGauges.class);
+            MBeanUtil.register("Logic", logicGauges, LogicGauges.class);
+            MBeanUtil.register("Storage", storageGauges, StorageGauges.class);
+        } catch (JMException e) {
+            logger.warning("Failed to register gauges with JMX " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Runs the script given in {@code appParameters} without starting the GUI, and prints a report of the run.
+     * The script starts from an empty address book if the data file is missing, and is not run at all if the data
+     * file cannot be loaded. If the script cannot be read or the address book cannot be saved part way through, the
+     * report of the commands run so far is printed.
+     * Returns the exit status of the application, which is 0 only if every command of the script succeeded.
+     */
+    public int runScript(AppParameters appParameters) {
+        logger.info("=============================[ Running script ]===========================");
+        UserPrefs userPrefs = initStorage(appParameters);
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        ReadOnlyAddressBook initialData;
+        try {
+            initialData = storage.readAddressBook().orElseGet(AddressBook::new);
+        } catch (DataLoadingException e) {
+            logger.severe("Data file at " + storage.getAddressBookFilePath() + " could not be loaded, so the script"
+                    + " is not run " + StringUtil.getDetails(e));
+            return 1;
+        }
+        initModel(new ModelManager(initialData, userPrefs));
+
+        ScriptReport report = new ScriptReport();
+        int exitStatus;
+        try (BufferedReader script = openScript(appParameters.getScriptPath())) {
+            ScriptRunner scriptRunner = new ScriptRunner(model, storage, appParameters.getSaveInterval());
+            scriptRunner.run(script, report);
+            exitStatus = report.getErrors().isEmpty() ? 0 : 1;
+        } catch (IOException e) {
+            logger.severe("Failed to run script " + StringUtil.getDetails(e));
+            exitStatus = 1;
+        }
+        System.out.print(report.format());
+        stop();
+        return exitStatus;
+    }
+
+    private static BufferedReader openScript(Path scriptPath) throws IOException {
+        if (scriptPath.equals(AppParameters.STANDARD_INPUT_SCRIPT_PATH)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Initializes the config, logging and storage from {@code appParameters}, which the GUI and the script runner
+     * share, and returns the user prefs read.
+     */
+    private UserPrefs initStorage(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        WriteBehindAddressBookStorage addressBookStorage = new WriteBehindAddressBookStorage(
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        userPrefs.isCompactDataFile())));
+        storageGauges = addressBookStorage;
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        return userPrefs;
+    }
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
+    private void initModel(ModelManager modelManager) {
+        modelGauges = modelManager;
+        model = modelManager;
     }
 
     /**
@@ -72,7 +162,7 @@ public class MainApp extends Application {
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ModelManager initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -177,6 +267,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
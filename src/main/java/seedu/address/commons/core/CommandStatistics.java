@@ -0,0 +1,60 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The latencies of each phase of running commands, kept in a {@link LatencyHistogram} for each command word and
+ * phase, to show which commands get slower as the address book grows.
+ */
+public class CommandStatistics {
+
+    /**
+     * A phase of running a command.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, PERSIST;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Map<String, Map<Phase, LatencyHistogram>> histogramsByCommandWord = new TreeMap<>();
+
+    /**
+     * Records that the {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public synchronized void record(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        histogramsByCommandWord.computeIfAbsent(commandWord, unused -> new EnumMap<>(Phase.class))
+                .computeIfAbsent(phase, unused -> new LatencyHistogram())
+                .record(nanos);
+    }
+
+    /**
+     * Returns the command words that latencies were recorded for, in alphabetical order.
+     */
+    public synchronized Set<String> getCommandWords() {
+        return new TreeSet<>(histogramsByCommandWord.keySet());
+    }
+
+    /**
+     * Returns the histogram of the latencies of the {@code phase} of commands with {@code commandWord}, if any
+     * were recorded.
+     */
+    public synchronized Optional<LatencyHistogram> getHistogram(String commandWord, Phase phase) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        Map<Phase, LatencyHistogram> histograms = histogramsByCommandWord.get(commandWord);
+        return histograms == null ? Optional.empty() : Optional.ofNullable(histograms.get(phase));
+    }
+}
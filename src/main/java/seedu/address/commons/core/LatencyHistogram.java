@@ -0,0 +1,87 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A histogram of latencies in fixed buckets, for recording many latencies cheaply and summarising them by percentile.
+ * The bucket bounds follow a 1-2-5 series from 10 microseconds to 100 seconds, so recording a latency only counts it
+ * in its bucket. A percentile is given as the upper bound of the bucket it falls in, which is at most 2.5 times the
+ * actual latency, but never more than the largest latency recorded.
+ */
+public class LatencyHistogram {
+
+    private static final long[] BUCKET_UPPER_BOUNDS = createBucketUpperBounds();
+
+    private final long[] counts = new long[BUCKET_UPPER_BOUNDS.length + 1];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records a latency of {@code nanos} nanoseconds.
+     */
+    public synchronized void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        int bucket = Arrays.binarySearch(BUCKET_UPPER_BOUNDS, latency);
+        counts[bucket >= 0 ? bucket : -bucket - 1]++;
+        count++;
+        total += latency;
+        max = Math.max(max, latency);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the largest latency recorded, in nanoseconds.
+     */
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the latencies recorded, in nanoseconds, or 0 if none were recorded.
+     */
+    public synchronized long getMean() {
+        return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * Returns the latency, in nanoseconds, that {@code percentile} percent of the recorded latencies are at most,
+     * or 0 if none were recorded.
+     *
+     * @param percentile must be more than 0 and at most 100.
+     */
+    public synchronized long getPercentile(double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100, "Percentile should be more than 0 and at most 100");
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100 * count);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_UPPER_BOUNDS.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(BUCKET_UPPER_BOUNDS[bucket], max);
+            }
+        }
+        return max;
+    }
+
+    private static long[] createBucketUpperBounds() {
+        long[] multipliers = {1, 2, 5};
+        long[] bounds = new long[3 * 7 + 1];
+        long decade = TimeUnit.MICROSECONDS.toNanos(10);
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = decade * multipliers[i % 3];
+            if (i % 3 == 2) {
+                decade *= 10;
+            }
+        }
+        return bounds;
+    }
+}
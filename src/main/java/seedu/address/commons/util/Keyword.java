@@ -0,0 +1,101 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A single word to look for in sentences, ignoring case.
+ * The word is validated once when the keyword is created, so that looking for it in many sentences only scans the
+ * sentences, with the same result as {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ */
+public class Keyword {
+
+    private final String word;
+
+    /**
+     * Constructs a {@code Keyword} for {@code word}, ignoring leading and trailing whitespace.
+     *
+     * @param word cannot be null, cannot be empty, must be a single word.
+     */
+    public Keyword(String word) {
+        requireNonNull(word);
+        String trimmedWord = word.trim();
+        checkArgument(!trimmedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(StringUtil.indexOfWhitespace(trimmedWord, 0, trimmedWord.length()) == -1,
+                "Word parameter should be a single word");
+        this.word = trimmedWord;
+    }
+
+    /**
+     * Returns a keyword for each of {@code words}.
+     */
+    public static List<Keyword> of(Collection<String> words) {
+        requireNonNull(words);
+        List<Keyword> keywords = new ArrayList<>(words.size());
+        for (String word : words) {
+            keywords.add(new Keyword(word));
+        }
+        return keywords;
+    }
+
+    /**
+     * Returns a keyword for each word of {@code text}, which must contain at least one word.
+     */
+    public static List<Keyword> ofWords(String text) {
+        requireNonNull(text);
+        return of(List.of(text.trim().split("\\s+")));
+    }
+
+    /**
+     * Returns true if any of {@code keywords} is one of the words of {@code sentence}, ignoring case.
+     */
+    public static boolean anyIsWordIn(List<Keyword> keywords, String sentence) {
+        requireNonNull(sentence);
+        for (int i = 0; i < keywords.size(); i++) {
+            if (keywords.get(i).isWordIn(sentence)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if this keyword is one of the words of {@code sentence}, ignoring case.
+     */
+    public boolean isWordIn(String sentence) {
+        requireNonNull(sentence);
+        return StringUtil.containsWordIgnoreCase(sentence, word, 0, word.length());
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Keyword otherKeyword)) {
+            return false;
+        }
+
+        return word.equals(otherKeyword.word);
+    }
+
+    @Override
+    public int hashCode() {
+        return word.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return word;
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Registers MBeans with the platform MBean server, where JDK Mission Control and JConsole find them.
+ */
+public class MBeanUtil {
+
+    public static final String DOMAIN = "seedu.address";
+
+    /**
+     * Registers {@code mbean} as an MXBean with the methods of {@code mbeanInterface}, under the name
+     * {@code seedu.address:type=<type>}, replacing any MBean already registered under that name.
+     * Returns the name the MBean was registered under.
+     *
+     * @throws JMException if the MBean could not be registered.
+     */
+    public static <T> ObjectName register(String type, T mbean, Class<T> mbeanInterface) throws JMException {
+        requireNonNull(type);
+        requireNonNull(mbean);
+        requireNonNull(mbeanInterface);
+
+        ObjectName name = new ObjectName(DOMAIN, "type", type);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(new StandardMBean(mbean, mbeanInterface, true), name);
+        return name;
+    }
+
+    /**
+     * Unregisters the MBean registered under {@code name}, if there is one.
+     *
+     * @throws JMException if the MBean could not be unregistered.
+     */
+    public static void unregister(ObjectName name) throws JMException {
+        requireNonNull(name);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+    }
+}
@@ -5,7 +5,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -27,15 +26,64 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        // the same bounds as String#trim, found without creating the trimmed string
+        int wordStart = 0;
+        int wordEnd = word.length();
+        while (wordStart < wordEnd && word.charAt(wordStart) <= ' ') {
+            wordStart++;
+        }
+        while (wordEnd > wordStart && word.charAt(wordEnd - 1) <= ' ') {
+            wordEnd--;
+        }
+        checkArgument(wordStart < wordEnd, "Word parameter cannot be empty");
+        checkArgument(indexOfWhitespace(word, wordStart, wordEnd) == -1, "Word parameter should be a single word");
+
+        return containsWordIgnoreCase(sentence, word, wordStart, wordEnd - wordStart);
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns true if one of the words of {@code sentence} is equal to the region of {@code word} of length
+     * {@code wordLength} starting at {@code wordStart}, ignoring case.
+     * The words of {@code sentence} are separated by whitespace, like splitting on {@code "\\s+"}, but the sentence
+     * is scanned in place without creating any objects.
+     */
+    static boolean containsWordIgnoreCase(String sentence, String word, int wordStart, int wordLength) {
+        int length = sentence.length();
+        int position = 0;
+        while (position < length) {
+            while (position < length && isWhitespace(sentence.charAt(position))) {
+                position++;
+            }
+            int tokenStart = position;
+            while (position < length && !isWhitespace(sentence.charAt(position))) {
+                position++;
+            }
+            if (position - tokenStart == wordLength
+                    && sentence.regionMatches(true, tokenStart, word, wordStart, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns the position of the first whitespace character of {@code text} between {@code start} (inclusive) and
+     * {@code end} (exclusive), or -1 if there is none.
+     */
+    static int indexOfWhitespace(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \\s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
     }
 
     /**
@@ -0,0 +1,37 @@
+package seedu.address.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a command run by {@link LogicManager}, from parsing the command text to saving the
+ * address book, so that slow commands show up in JDK Mission Control alongside garbage collection and I/O.
+ */
+@Name("seedu.address.CommandExecution")
+@Label("Command Execution")
+@Category({"REconnect", "Logic"})
+@Description("A command run from parsing to saving the address book")
+@StackTrace(false)
+class CommandExecutionEvent extends jdk.jfr.Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Succeeded")
+    private boolean isSuccessful;
+
+    /**
+     * Ends the event and commits it with the given details, if the event is being recorded.
+     */
+    void commit(String commandWord, boolean isSuccessful) {
+        end();
+        if (shouldCommit()) {
+            this.commandWord = commandWord;
+            this.isSuccessful = isSuccessful;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.logic;
+
+import javax.management.MXBean;
+
+/**
+ * The gauges of running commands shown through JMX, for watching how often commands save the address book in
+ * JDK Mission Control or JConsole.
+ */
+@MXBean
+public interface LogicGauges {
+
+    /**
+     * Returns the number of commands after which the address book was saved.
+     */
+    long getSaveCount();
+
+    /**
+     * Returns the number of commands after which saving was skipped as the address book was unchanged.
+     */
+    long getSkippedSaveCount();
+}
@@ -11,6 +11,8 @@ import java.util.logging.Logger;
 import org.reflections.Reflections;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CommandStatistics;
+import seedu.address.commons.core.CommandStatistics.Phase;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
@@ -29,17 +31,24 @@ import seedu.address.storage.Storage;
 /**
  * The main LogicManager of the app.
  */
-public class LogicManager implements Logic {
+public class LogicManager implements Logic, LogicGauges {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
 
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
-    private final Logger logger = LogsCenter.getLogger(LogicManager.class);
+    private static final long UNSAVED = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandStatistics commandStatistics = new CommandStatistics();
+
+    private long savedModificationCount;
+    private volatile long saveCount;
+    private volatile long skippedSaveCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -49,7 +58,8 @@ public class LogicManager implements Logic {
         assert storage != null : "Storage cannot be null";
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(commandStatistics);
+        savedModificationCount = model.getModificationCount();
         initialiseCommandWords();
     }
 
@@ -57,7 +67,7 @@ public class LogicManager implements Logic {
      * Initialises the command words for all commands in the package at runtime.
      * This method uses reflection to find all subclasses of Command and register their command words.
      */
-    private void initialiseCommandWords() {
+    static void initialiseCommandWords() {
         Reflections reflections = new Reflections("seedu.address.logic.commands");
         Set<Class<? extends Command>> commandClasses = reflections.getSubTypesOf(Command.class);
         for (Class<? extends Command> commandClass : commandClasses) {
@@ -90,12 +100,39 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
+        CommandExecutionEvent event = new CommandExecutionEvent();
+        event.begin();
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        boolean isSuccessful = false;
+        try {
+            CommandResult commandResult = runCommand(commandText, commandWord);
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            event.commit(commandWord, isSuccessful);
+        }
+    }
+
+    /**
+     * Parses and executes {@code commandText}, then saves the address book if the command modified it.
+     * The time taken by each phase is recorded against {@code commandWord}.
+     */
+    private CommandResult runCommand(String commandText, String commandWord) throws CommandException, ParseException {
+        long parseStart = System.nanoTime();
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        // only commands that parse are timed, so that mistyped command words are not kept
+        long executeStart = System.nanoTime();
+        commandStatistics.record(commandWord, Phase.PARSE, executeStart - parseStart);
+
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            commandStatistics.record(commandWord, Phase.EXECUTE, System.nanoTime() - executeStart);
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saveAddressBookIfModified(commandWord);
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -105,6 +142,51 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the address book if it was modified since it was last saved.
+     * Also reports any earlier save that failed after it returned, in which case the address book is saved again
+     * after the next command. The time taken to write the address book is recorded against {@code commandWord} once
+     * it is written, which may be after this method returns if the storage writes in the background.
+     */
+    private void saveAddressBookIfModified(String commandWord) throws IOException {
+        try {
+            storage.checkAddressBookSaved();
+        } catch (IOException e) {
+            savedModificationCount = UNSAVED;
+            throw e;
+        }
+
+        long modificationCount = model.getModificationCount();
+        if (modificationCount == savedModificationCount) {
+            // the address book is unchanged since it was last saved, so there is nothing to write
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipped saving (" + skippedSaveCount + " saves skipped so far)");
+            return;
+        }
+
+        storage.saveAddressBook(model.getAddressBook(),
+                writeNanos -> commandStatistics.record(commandWord, Phase.PERSIST, writeNanos));
+        savedModificationCount = modificationCount;
+        saveCount++;
+    }
+
+    /**
+     * Returns the latencies recorded for each phase of the commands run so far.
+     */
+    public CommandStatistics getCommandStatistics() {
+        return commandStatistics;
+    }
+
+    @Override
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+    @Override
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
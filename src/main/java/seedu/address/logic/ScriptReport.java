@@ -0,0 +1,121 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.core.LatencyHistogram;
+
+/**
+ * The outcome of running a script with a {@link ScriptRunner}: the commands that succeeded and how long each took,
+ * the commands that failed, and the saves made along the way.
+ * The latencies of the commands are kept in a {@link LatencyHistogram} for each command word, like those shown by
+ * the {@code stats} command, so long scripts do not keep every latency.
+ */
+public class ScriptReport {
+
+    private final Map<String, LatencyHistogram> latenciesByCommandWord = new TreeMap<>();
+    private final LatencyHistogram allLatencies = new LatencyHistogram();
+    private final List<String> errors = new ArrayList<>();
+    private int saveCount;
+    private long saveNanos;
+    private long totalNanos;
+
+    /**
+     * Records that a command with {@code commandWord} succeeded after {@code nanos} nanoseconds.
+     */
+    void addCommand(String commandWord, long nanos) {
+        latenciesByCommandWord.computeIfAbsent(commandWord, unused -> new LatencyHistogram()).record(nanos);
+        allLatencies.record(nanos);
+    }
+
+    /**
+     * Records that the command on line {@code lineNumber} of the script failed with {@code message}.
+     */
+    void addError(int lineNumber, String message) {
+        errors.add("Line " + lineNumber + ": " + message);
+    }
+
+    /**
+     * Records a save of the address book that took {@code nanos} nanoseconds to write.
+     */
+    void addSave(long nanos) {
+        saveCount++;
+        saveNanos += nanos;
+    }
+
+    void setTotalNanos(long totalNanos) {
+        this.totalNanos = totalNanos;
+    }
+
+    public long getCommandCount() {
+        return allLatencies.getCount();
+    }
+
+    /**
+     * Returns the number of commands with {@code commandWord} that succeeded.
+     */
+    public long getCommandCount(String commandWord) {
+        LatencyHistogram latencies = latenciesByCommandWord.get(commandWord);
+        return latencies == null ? 0 : latencies.getCount();
+    }
+
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public int getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Returns the total time taken to write the saves of the address book, in nanoseconds.
+     */
+    public long getSaveNanos() {
+        return saveNanos;
+    }
+
+    /**
+     * Returns the number of commands run per second, counting the failed commands and the time spent saving.
+     */
+    public double getThroughput() {
+        if (totalNanos == 0) {
+            return 0;
+        }
+        return (getCommandCount() + errors.size()) / (totalNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Returns a summary of the report to show to the user, with the latency of each kind of command.
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Ran %d commands (%d failed) in %.1f ms, %.1f commands/s%n",
+                getCommandCount() + errors.size(), errors.size(), toMillis(totalNanos), getThroughput()));
+        builder.append(String.format("Saved %d times in %.1f ms%n", saveCount, toMillis(saveNanos)));
+        if (allLatencies.getCount() > 0) {
+            builder.append(formatLatencies("all commands", allLatencies));
+        }
+        for (Map.Entry<String, LatencyHistogram> entry : latenciesByCommandWord.entrySet()) {
+            builder.append(formatLatencies(entry.getKey(), entry.getValue()));
+        }
+        for (String error : errors) {
+            builder.append(error).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+
+    private static String formatLatencies(String name, LatencyHistogram latencies) {
+        return String.format("  %-16s %8d x  mean %8.3f ms  p50 %8.3f ms  p95 %8.3f ms  p99 %8.3f ms  max %8.3f ms%n",
+                name, latencies.getCount(), toMillis(latencies.getMean()), toMillis(latencies.getPercentile(50)),
+                toMillis(latencies.getPercentile(95)), toMillis(latencies.getPercentile(99)),
+                toMillis(latencies.getMax()));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs a script of commands, one command per line, against the model without the GUI, for bulk updates and for
+ * replaying workloads.
+ * Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped, a command that fails is reported and the
+ * script goes on, and an exit command ends the script. Unlike {@link LogicManager}, which saves after every command,
+ * the address book is saved every {@code saveInterval} commands and once more at the end of the script, and only if
+ * it was modified since it was last saved. Each save waits until the address book has been written.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final int saveInterval;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    private long savedModificationCount;
+
+    /**
+     * Creates a {@code ScriptRunner} that runs commands against {@code model} and saves it to {@code storage}.
+     *
+     * @param saveInterval the number of commands between saves, or 0 to save only at the end of the script.
+     */
+    public ScriptRunner(Model model, Storage storage, int saveInterval) {
+        requireAllNonNull(model, storage);
+        checkArgument(saveInterval >= 0, "Save interval cannot be negative");
+        this.model = model;
+        this.storage = storage;
+        this.saveInterval = saveInterval;
+        savedModificationCount = model.getModificationCount();
+        LogicManager.initialiseCommandWords();
+    }
+
+    /**
+     * Runs the commands read from {@code script} until the end of the script or an exit command.
+     *
+     * @throws IOException if the script could not be read or the address book could not be saved.
+     */
+    public ScriptReport run(BufferedReader script) throws IOException {
+        ScriptReport report = new ScriptReport();
+        run(script, report);
+        return report;
+    }
+
+    /**
+     * Similar to {@link #run(BufferedReader)}, but records the run in {@code report}, which keeps what was recorded
+     * before the script failed if an {@code IOException} is thrown.
+     */
+    public void run(BufferedReader script, ScriptReport report) throws IOException {
+        requireAllNonNull(script, report);
+        long start = System.nanoTime();
+        try {
+            runCommands(script, report);
+        } finally {
+            report.setTotalNanos(System.nanoTime() - start);
+        }
+    }
+
+    private void runCommands(BufferedReader script, ScriptReport report) throws IOException {
+        int lineNumber = 0;
+        int commandsSinceSave = 0;
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            CommandResult result = runCommand(commandText, lineNumber, report);
+            commandsSinceSave++;
+            if (result != null && result.isExit()) {
+                break;
+            }
+            if (saveInterval > 0 && commandsSinceSave >= saveInterval) {
+                saveIfModified(report);
+                commandsSinceSave = 0;
+            }
+        }
+        saveIfModified(report);
+    }
+
+    /**
+     * Runs {@code commandText} and records how long it took in {@code report}.
+     * Returns the result of the command, or null if the command failed.
+     */
+    private CommandResult runCommand(String commandText, int lineNumber, ScriptReport report) {
+        long commandStart = System.nanoTime();
+        try {
+            CommandResult result = addressBookParser.parseCommand(commandText).execute(model);
+            report.addCommand(commandText.split("\\s+", 2)[0], System.nanoTime() - commandStart);
+            return result;
+        } catch (ParseException | CommandException e) {
+            logger.info("Command on line " + lineNumber + " failed: " + e.getMessage());
+            report.addError(lineNumber, e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveIfModified(ScriptReport report) throws IOException {
+        long modificationCount = model.getModificationCount();
+        if (modificationCount == savedModificationCount) {
+            return;
+        }
+        // storage may write in the background, so the save is only timed once the address book has been written
+        long saveStart = System.nanoTime();
+        storage.saveAddressBook(model.getAddressBook());
+        storage.flushAddressBook();
+        savedModificationCount = modificationCount;
+        report.addSave(System.nanoTime() - saveStart);
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.core.CommandStatistics;
+import seedu.address.commons.core.CommandStatistics.Phase;
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of the commands run so far took, for each command word.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the latencies of the commands run so far, "
+            + "in milliseconds, for parsing, executing and saving each kind of command. "
+            + "This command does not take additional parameters.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_STATISTICS = "No commands have been run yet.";
+
+    public static final String MESSAGE_HEADER = String.format("%-16s %-8s %7s %9s %9s %9s %9s",
+            "Command", "Phase", "Count", "p50", "p95", "p99", "Max");
+
+    private static final String ROW_FORMAT = "%n%-16s %-8s %7d %9.3f %9.3f %9.3f %9.3f";
+
+    private final CommandStatistics commandStatistics;
+
+    /**
+     * Creates a {@code StatsCommand} that shows the latencies recorded in {@code commandStatistics}.
+     */
+    public StatsCommand(CommandStatistics commandStatistics) {
+        requireNonNull(commandStatistics);
+        this.commandStatistics = commandStatistics;
+    }
+
+    public static void addCommandWord() {
+        initialiseCommandWord(COMMAND_WORD);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (commandStatistics.getCommandWords().isEmpty()) {
+            return new CommandResult(MESSAGE_NO_STATISTICS);
+        }
+
+        StringBuilder message = new StringBuilder(MESSAGE_HEADER);
+        for (String commandWord : commandStatistics.getCommandWords()) {
+            for (Phase phase : Phase.values()) {
+                Optional<LatencyHistogram> histogram = commandStatistics.getHistogram(commandWord, phase);
+                histogram.ifPresent(h -> message.append(String.format(ROW_FORMAT, commandWord, phase, h.getCount(),
+                        toMillis(h.getPercentile(50)), toMillis(h.getPercentile(95)),
+                        toMillis(h.getPercentile(99)), toMillis(h.getMax()))));
+            }
+        }
+        return new CommandResult(message.toString());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
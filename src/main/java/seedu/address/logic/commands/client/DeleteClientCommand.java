@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -12,6 +13,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ReferenceIndex;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.ClientName;
 import seedu.address.model.deal.Deal;
@@ -59,9 +61,18 @@ public class DeleteClientCommand extends DeleteCommand<Client> {
 
         Client clientToDelete = lastShownClientList.get(targetIndex.getZeroBased());
 
-        String existingDeals = existInDeals(clientToDelete, lastShownDealList);
-        String existingEvents = existInEvents(clientToDelete, lastShownEventList);
-        String existingProperties = existInProperties(clientToDelete, lastShownPropertyList);
+        // the displayed lists are only scanned for the message if the index finds a blocking reference
+        ReferenceIndex references = model.getReferenceIndex();
+        ClientName clientName = clientToDelete.getFullName();
+        // the client has unclosed deals unless all the deals referring to them are closed
+        Set<Deal> closedDeals = model.getDealsWithStatus(DealStatus.CLOSED);
+        String existingDeals = !closedDeals.containsAll(references.getDeals(clientName))
+                ? existInDeals(clientToDelete, lastShownDealList) : "";
+        String existingEvents = references.getEvents(clientName).stream()
+                .anyMatch(event -> isFutureEventWith(clientName, event))
+                ? existInEvents(clientToDelete, lastShownEventList) : "";
+        String existingProperties = !references.getProperties(clientName).isEmpty()
+                ? existInProperties(clientToDelete, lastShownPropertyList) : "";
 
         if (!existingDeals.isEmpty() || !existingEvents.isEmpty() || !existingProperties.isEmpty()) {
             String msg = String.format(MESSAGE_DELETE_CLIENT_ERROR, clientToDelete.getFullName());
@@ -79,9 +90,7 @@ public class DeleteClientCommand extends DeleteCommand<Client> {
         boolean found = false;
         for (int i = 0; i < dealList.size(); i++) {
             Deal deal = dealList.get(i);
-            if ((clientNameToDelete.equals(deal.getBuyer())
-                || clientNameToDelete.equals(deal.getSeller()))
-                && deal.getStatus() != DealStatus.CLOSED) {
+            if (isUnclosedDealOf(clientNameToDelete, deal)) {
                 msg.append(i + 1).append(" ");
                 found = true;
             }
@@ -98,8 +107,7 @@ public class DeleteClientCommand extends DeleteCommand<Client> {
         boolean found = false;
         for (int i = 0; i < eventList.size(); i++) {
             Event event = eventList.get(i);
-            if (clientNameToDelete.equals(event.getClientName())
-                && LocalDateTime.now().isBefore(event.getDateTime())) {
+            if (isFutureEventWith(clientNameToDelete, event)) {
                 msg.append(i + 1).append(" ");
                 found = true;
             }
@@ -110,6 +118,15 @@ public class DeleteClientCommand extends DeleteCommand<Client> {
         return "";
     }
 
+    private static boolean isUnclosedDealOf(ClientName clientName, Deal deal) {
+        return (clientName.equals(deal.getBuyer()) || clientName.equals(deal.getSeller()))
+            && deal.getStatus() != DealStatus.CLOSED;
+    }
+
+    private static boolean isFutureEventWith(ClientName clientName, Event event) {
+        return clientName.equals(event.getClientName()) && LocalDateTime.now().isBefore(event.getDateTime());
+    }
+
     private String existInProperties(Client clientToDelete, List<Property> propertyList) {
         ClientName clientNameToDelete = clientToDelete.getFullName();
         StringBuilder msg = new StringBuilder("He/She is the owner of the following property(s): ");
@@ -175,7 +175,7 @@ public class AddDealCommand extends Command {
 
         return propertyId.equals(otherAddDealCommand.propertyId)
                 && buyerId.equals(otherAddDealCommand.buyerId)
-                && price.value.equals(otherAddDealCommand.price.value)
+                && price.equals(otherAddDealCommand.price)
                 && status.equals(otherAddDealCommand.status);
     }
 }
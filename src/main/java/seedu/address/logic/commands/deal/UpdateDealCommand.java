@@ -102,7 +102,6 @@ public class UpdateDealCommand extends EditCommand<Deal> {
         }
 
         model.setDeal(dealToUpdate, updatedDeal);
-        model.updateFilteredDealList(Model.PREDICATE_SHOW_ALL_DEALS);
         return new CommandResult(String.format(MESSAGE_UPDATE_DEAL_SUCCESS, updatedDeal));
     }
 
@@ -129,26 +128,9 @@ public class UpdateDealCommand extends EditCommand<Deal> {
             updatedSeller = newProperty.getOwner();
         } else {
             updatedPropertyName = dealToUpdate.getPropertyName();
-            // If property isn't being updated, handle seller update based on whether it's from EditClientCommand
             if (updateDealDescriptor.getSeller().isPresent()) {
-                // Check if this is an internal update (from EditClientCommand)
-                StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-                boolean isInternalUpdate = false;
-                for (StackTraceElement element : stackTrace) {
-                    if (element.getClassName().contains("EditClientCommand")) {
-                        isInternalUpdate = true;
-                        break;
-                    }
-                }
-                if (!isInternalUpdate) {
-                    throw new CommandException("Seller cannot be manually updated."
-                            + " It is automatically set based on the property owner.");
-                }
-                Index sellerIndex = updateDealDescriptor.getSeller().get();
-                if (sellerIndex.getZeroBased() >= model.getFilteredClientList().size()) {
-                    throw new CommandException("Invalid seller ID: Index out of bounds");
-                }
-                updatedSeller = model.getFilteredClientList().get(sellerIndex.getZeroBased()).getFullName();
+                throw new CommandException("Seller cannot be manually updated."
+                        + " It is automatically set based on the property owner.");
             } else {
                 updatedSeller = dealToUpdate.getSeller();
             }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -12,6 +13,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ReferenceIndex;
 import seedu.address.model.deal.Deal;
 import seedu.address.model.deal.DealStatus;
 import seedu.address.model.event.Event;
@@ -57,8 +59,16 @@ public class DeletePropertyCommand extends DeleteCommand<Property> {
 
         Property propertyToDelete = lastShownList.get(targetIndex.getZeroBased());
 
-        String existingDeals = existInDeals(propertyToDelete, lastShownDealList);
-        String existingEvents = existInEvents(propertyToDelete, lastShownEventList);
+        // the displayed lists are only scanned for the message if the index finds a blocking reference
+        ReferenceIndex references = model.getReferenceIndex();
+        PropertyName propertyName = propertyToDelete.getFullName();
+        // the property has unclosed deals unless all the deals referring to it are closed
+        Set<Deal> closedDeals = model.getDealsWithStatus(DealStatus.CLOSED);
+        String existingDeals = !closedDeals.containsAll(references.getDeals(propertyName))
+                ? existInDeals(propertyToDelete, lastShownDealList) : "";
+        String existingEvents = references.getEvents(propertyName).stream()
+                .anyMatch(event -> isFutureEventAbout(propertyName, event))
+                ? existInEvents(propertyToDelete, lastShownEventList) : "";
 
         if (!existingDeals.isEmpty() || !existingEvents.isEmpty()) {
             String msg = String.format(MESSAGE_DELETE_PROPERTY_ERROR, propertyToDelete.getFullName());
@@ -77,8 +87,7 @@ public class DeletePropertyCommand extends DeleteCommand<Property> {
         boolean found = false;
         for (int i = 0; i < dealList.size(); i++) {
             Deal deal = dealList.get(i);
-            if ((propertyNameToDelete.equals(deal.getPropertyName()))
-                    && deal.getStatus() != DealStatus.CLOSED) {
+            if (isUnclosedDealFor(propertyNameToDelete, deal)) {
                 msg.append(i + 1).append(" ");
                 found = true;
             }
@@ -95,8 +104,7 @@ public class DeletePropertyCommand extends DeleteCommand<Property> {
         boolean found = false;
         for (int i = 0; i < eventList.size(); i++) {
             Event event = eventList.get(i);
-            if (propertyNameToDelete.equals(event.getPropertyName())
-                    && LocalDateTime.now().isBefore(event.getDateTime())) {
+            if (isFutureEventAbout(propertyNameToDelete, event)) {
                 msg.append(i + 1).append(" ");
                 found = true;
             }
@@ -107,6 +115,14 @@ public class DeletePropertyCommand extends DeleteCommand<Property> {
         return "";
     }
 
+    private static boolean isUnclosedDealFor(PropertyName propertyName, Deal deal) {
+        return propertyName.equals(deal.getPropertyName()) && deal.getStatus() != DealStatus.CLOSED;
+    }
+
+    private static boolean isFutureEventAbout(PropertyName propertyName, Event event) {
+        return propertyName.equals(event.getPropertyName()) && LocalDateTime.now().isBefore(event.getDateTime());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
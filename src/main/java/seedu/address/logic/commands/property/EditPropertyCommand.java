@@ -7,7 +7,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_OWNER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PROPERTIES;
 
 import java.util.List;
 import java.util.Objects;
@@ -120,8 +119,6 @@ public class EditPropertyCommand extends EditCommand<Property> {
         }
 
         model.setProperty(propertyToEdit, editedProperty);
-        model.updateFilteredPropertyList(PREDICATE_SHOW_ALL_PROPERTIES);
-
         if (optionalPropertyName.isPresent()) {
             PropertyName oldPropertyName = propertyToEdit.getFullName();
 
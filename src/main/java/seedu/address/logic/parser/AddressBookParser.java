@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -8,6 +9,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javafx.util.Pair;
+import seedu.address.commons.core.CommandStatistics;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.Command;
@@ -18,6 +20,7 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListAllCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.client.AddClientCommand;
 import seedu.address.logic.commands.client.DeleteClientCommand;
 import seedu.address.logic.commands.client.EditClientCommand;
@@ -66,6 +69,23 @@ public class AddressBookParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final CommandStatistics commandStatistics;
+
+    /**
+     * Creates an {@code AddressBookParser} whose stats commands show no latencies.
+     */
+    public AddressBookParser() {
+        this(new CommandStatistics());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose stats commands show the latencies in {@code commandStatistics}.
+     */
+    public AddressBookParser(CommandStatistics commandStatistics) {
+        requireNonNull(commandStatistics);
+        this.commandStatistics = commandStatistics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -103,6 +123,8 @@ public class AddressBookParser {
             return new ExitCommand();
         } else if (commandWord.startsWith(HelpCommand.COMMAND_WORD)) {
             return new HelpCommand();
+        } else if (commandWord.equals(StatsCommand.COMMAND_WORD)) {
+            return new StatsCommand(commandStatistics);
         } else {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
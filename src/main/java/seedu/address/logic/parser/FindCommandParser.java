@@ -1,11 +1,13 @@
 package seedu.address.logic.parser;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.CompoundPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -70,36 +72,28 @@ public abstract class FindCommandParser<T> implements Parser<FindCommand<T>> {
     }
 
     /**
-     * Combines the predicates based on the prefixes used.
+     * Combines the predicates based on the prefixes used into a query whose terms can be examined and reordered.
      *
      * @param prefixPredicateMap A map of prefixes to predicates.
      */
     protected static <T> Predicate<T> getCombinedPredicate(LinkedHashMap<Prefix, Predicate<T>> prefixPredicateMap) {
-        Predicate<T> combinedPredicate = null;
+        List<Predicate<T>> terms = new ArrayList<>();
+        Connective connective = null;
         for (Prefix prefix : prefixPredicateMap.keySet()) {
-            combinedPredicate = combinePredicates(combinedPredicate, prefix, prefixPredicateMap.get(prefix));
+            if (terms.isEmpty() && prefix.isConnective()) {
+                throw new IllegalStateException("Invalid state: first prefix is connective");
+            }
+            if (prefix.isAndPrefix()) {
+                connective = Connective.AND;
+            } else if (prefix.isOrPrefix()) {
+                connective = Connective.OR;
+            }
+            terms.add(prefixPredicateMap.get(prefix));
         }
-        return combinedPredicate;
-    }
 
-    /**
-     * Combines the current predicate with the next predicate based on the prefix.
-     *
-     * @param currentPredicate The current predicate.
-     * @param prefix The prefix indicating the type of combination (AND/OR).
-     * @param nextPredicate The next predicate to combine with.
-     * @return The combined predicate.
-     */
-    private static <T> Predicate<T> combinePredicates(Predicate<T> currentPredicate, Prefix prefix,
-                                                        Predicate<T> nextPredicate) {
-        if (currentPredicate == null && !prefix.isConnective()) {
-            return nextPredicate;
-        } else if (currentPredicate != null && prefix.isAndPrefix()) {
-            return currentPredicate.and(nextPredicate);
-        } else if (currentPredicate != null && prefix.isOrPrefix()) {
-            return currentPredicate.or(nextPredicate);
-        } else {
-            throw new IllegalStateException("Invalid state: currentPredicate is null and prefix is connective");
+        if (terms.size() == 1) {
+            return terms.get(0);
         }
+        return connective == Connective.OR ? CompoundPredicate.anyOf(terms) : CompoundPredicate.allOf(terms);
     }
 }
@@ -1,18 +1,30 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.client.UniqueClientList;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
 import seedu.address.model.deal.UniqueDealList;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventType;
 import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.index.TrigramIndex;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.UniquePropertyList;
 
@@ -26,6 +38,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueDealList deals;
     private final UniqueEventList events;
     private final UniquePropertyList properties;
+    private final ReferenceIndex referenceIndex;
+    private final TrigramIndex addressIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -36,10 +50,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
 
     {
-        clients = new UniqueClientList();
+        // clients and properties often share addresses, so their addresses are indexed together
+        addressIndex = new TrigramIndex();
+        clients = new UniqueClientList(addressIndex);
         deals = new UniqueDealList();
         events = new UniqueEventList();
-        properties = new UniquePropertyList();
+        properties = new UniquePropertyList(addressIndex);
+        referenceIndex = new ReferenceIndex();
     }
 
     public AddressBook() {}
@@ -68,6 +85,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setDeals(List<Deal> deals) {
         this.deals.setDeals(deals);
+        referenceIndex.setDeals(deals);
     }
 
     /**
@@ -76,6 +94,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setProperties(List<Property> properties) {
         this.properties.setProperties(properties);
+        referenceIndex.setProperties(properties);
     }
 
     /**
@@ -127,6 +146,77 @@ public class AddressBook implements ReadOnlyAddressBook {
         clients.setClient(target, editedClient);
     }
 
+    /**
+     * Replaces the given client {@code target} with {@code editedClient}, and rewrites every deal, event and
+     * property referring to {@code target} by name to refer to {@code editedClient} instead.
+     * The referring entries are found in the reference index and replaced one by one, so the cost grows with the
+     * number of references rather than with the size of the lists. Only the lists with entries referring to
+     * {@code target} are changed, each at most once. Every change is checked before any is made, so if any of them
+     * is invalid, no list is changed and the modification count is unchanged.
+     */
+    public void renameClient(Client target, Client editedClient) {
+        requireAllNonNull(target, editedClient);
+        ClientName oldName = target.getFullName();
+        ClientName newName = editedClient.getFullName();
+
+        Map<Deal, Deal> renamedDeals = new HashMap<>();
+        referenceIndex.getDeals(oldName).forEach(deal ->
+                renamedDeals.put(deal, renameClientInDeal(deal, oldName, newName)));
+        Map<Event, Event> renamedEvents = new HashMap<>();
+        referenceIndex.getEvents(oldName).forEach(event ->
+                renamedEvents.put(event, renameClientInEvent(event, oldName, newName)));
+        Map<Property, Property> renamedProperties = new HashMap<>();
+        referenceIndex.getProperties(oldName).forEach(property ->
+                renamedProperties.put(property, renameOwnerOfProperty(property, oldName, newName)));
+        deals.checkUniqueAfterReplacing(renamedDeals);
+        events.checkUniqueAfterReplacing(renamedEvents);
+        properties.checkUniqueAfterReplacing(renamedProperties);
+
+        // the client is checked before it is replaced, and the other lists were checked above, so nothing below fails
+        // after a list has been changed
+        setClient(target, editedClient);
+        deals.replaceAll(renamedDeals);
+        renamedDeals.forEach((deal, renamedDeal) -> {
+            referenceIndex.removeDeal(deal);
+            referenceIndex.addDeal(renamedDeal);
+        });
+        events.replaceAll(renamedEvents);
+        renamedEvents.forEach((event, renamedEvent) -> {
+            referenceIndex.removeEvent(event);
+            referenceIndex.addEvent(renamedEvent);
+        });
+        properties.replaceAll(renamedProperties);
+        renamedProperties.forEach((property, renamedProperty) -> {
+            referenceIndex.removeProperty(property);
+            referenceIndex.addProperty(renamedProperty);
+        });
+    }
+
+    private static Deal renameClientInDeal(Deal deal, ClientName oldName, ClientName newName) {
+        if (!deal.getBuyer().equals(oldName) && !deal.getSeller().equals(oldName)) {
+            return deal;
+        }
+        ClientName buyer = deal.getBuyer().equals(oldName) ? newName : deal.getBuyer();
+        ClientName seller = deal.getSeller().equals(oldName) ? newName : deal.getSeller();
+        return new Deal(deal.getPropertyName(), buyer, seller, deal.getPrice(), deal.getStatus());
+    }
+
+    private static Event renameClientInEvent(Event event, ClientName oldName, ClientName newName) {
+        if (!event.getClientName().equals(oldName)) {
+            return event;
+        }
+        return new Event(event.getDateTime(), event.getEventType(), newName, event.getPropertyName(),
+                event.getNote());
+    }
+
+    private static Property renameOwnerOfProperty(Property property, ClientName oldName, ClientName newName) {
+        if (!property.getOwner().equals(oldName)) {
+            return property;
+        }
+        return new Property(property.getFullName(), property.getAddress(), property.getPrice(), property.getSize(),
+                property.getDescription(), newName);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in REconnect.
@@ -149,6 +239,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addEvent(Event event) {
         requireNonNull(event);
         events.add(event);
+        referenceIndex.addEvent(event);
     }
 
     /**
@@ -157,10 +248,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removeEvent(Event event) {
         requireNonNull(event);
         events.remove(event);
+        referenceIndex.removeEvent(event);
     }
 
     public void setEvents(List<Event> events) {
         this.events.setEvents(events);
+        referenceIndex.setEvents(events);
     }
 
     //// property-level operations
@@ -179,6 +272,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addProperty(Property property) {
         properties.add(property);
+        referenceIndex.addProperty(property);
     }
 
     /**
@@ -191,6 +285,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedProperty);
 
         properties.setProperty(target, editedProperty);
+        referenceIndex.removeProperty(target);
+        referenceIndex.addProperty(editedProperty);
     }
 
     /**
@@ -199,6 +295,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeProperty(Property key) {
         properties.remove(key);
+        referenceIndex.removeProperty(key);
     }
 
     //// deal-level operations
@@ -217,6 +314,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addDeal(Deal deal) {
         deals.add(deal);
+        referenceIndex.addDeal(deal);
     }
 
     /**
@@ -228,6 +326,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedDeal);
 
         deals.setDeal(target, editedDeal);
+        referenceIndex.removeDeal(target);
+        referenceIndex.addDeal(editedDeal);
     }
 
     /**
@@ -236,6 +336,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeDeal(Deal key) {
         deals.remove(key);
+        referenceIndex.removeDeal(key);
     }
 
     //// util methods
@@ -250,6 +351,176 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    /**
+     * Returns the clients whose name contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Client> getClientsWithNameContainingAny(Collection<String> keywords) {
+        return clients.getClientsWithNameContainingAny(keywords);
+    }
+
+    /**
+     * Returns the clients whose phone number contains {@code fragment}.
+     */
+    public Set<Client> getClientsWithPhoneContaining(String fragment) {
+        return clients.getClientsWithPhoneContaining(fragment);
+    }
+
+    /**
+     * Returns the clients whose email contains {@code fragment}.
+     */
+    public Set<Client> getClientsWithEmailContaining(String fragment) {
+        return clients.getClientsWithEmailContaining(fragment);
+    }
+
+    /**
+     * Returns the clients whose address contains {@code fragment}, ignoring case.
+     */
+    public Set<Client> getClientsWithAddressContaining(String fragment) {
+        return clients.getClientsWithAddressContaining(fragment);
+    }
+
+    /**
+     * Returns the properties whose name contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Property> getPropertiesWithNameContainingAny(Collection<String> keywords) {
+        return properties.getPropertiesWithNameContainingAny(keywords);
+    }
+
+    /**
+     * Returns the properties whose address contains {@code fragment}, ignoring case.
+     */
+    public Set<Property> getPropertiesWithAddressContaining(String fragment) {
+        return properties.getPropertiesWithAddressContaining(fragment);
+    }
+
+    /**
+     * Returns the deals whose price is at least {@code min} and at most {@code max}.
+     */
+    public Set<Deal> getDealsWithPriceInRange(long min, long max) {
+        return deals.getDealsWithPriceInRange(min, max);
+    }
+
+    /**
+     * Returns the deals with the given status.
+     */
+    public Set<Deal> getDealsWithStatus(DealStatus status) {
+        return deals.getDealsWithStatus(status);
+    }
+
+    /**
+     * Returns the events of the given type that are after {@code after} and before {@code before}.
+     * A null bound leaves that side of the range open.
+     */
+    public Set<Event> getEventsOfType(EventType type, LocalDateTime after, LocalDateTime before) {
+        return events.getEventsOfType(type, after, before);
+    }
+
+    /**
+     * Returns the events whose client name contains any of {@code keywords} as a whole word, ignoring case, that are
+     * after {@code after} and before {@code before}. A null bound leaves that side of the range open.
+     */
+    public Set<Event> getEventsWithClientNameContainingAny(Collection<String> keywords, LocalDateTime after,
+                                                           LocalDateTime before) {
+        return events.getEventsWithClientNameContainingAny(keywords, after, before);
+    }
+
+    /**
+     * Returns the events whose property name contains any of {@code keywords} as a whole word, ignoring case, that
+     * are after {@code after} and before {@code before}. A null bound leaves that side of the range open.
+     */
+    public Set<Event> getEventsAboutPropertyNameContainingAny(Collection<String> keywords, LocalDateTime after,
+                                                              LocalDateTime before) {
+        return events.getEventsAboutPropertyNameContainingAny(keywords, after, before);
+    }
+
+    /**
+     * Returns the properties whose price is at least {@code min} and at most {@code max}.
+     */
+    public Set<Property> getPropertiesWithPriceInRange(long min, long max) {
+        return properties.getPropertiesWithPriceInRange(min, max);
+    }
+
+    /**
+     * Returns the properties whose size in square feet is at least {@code min} and at most {@code max}.
+     */
+    public Set<Property> getPropertiesWithSizeInRange(long min, long max) {
+        return properties.getPropertiesWithSizeInRange(min, max);
+    }
+
+    /**
+     * Returns the index of the deals, events and properties referring to each client and property name.
+     */
+    public ReferenceIndex getReferenceIndex() {
+        return referenceIndex;
+    }
+
+    /**
+     * Returns the number of entries in each index kept over the lists of this address book, by the name of the index.
+     */
+    public Map<String, Integer> getIndexSizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        putAll(sizes, "client.", clients.getIndexSizes());
+        putAll(sizes, "deal.", deals.getIndexSizes());
+        putAll(sizes, "event.", events.getIndexSizes());
+        putAll(sizes, "property.", properties.getIndexSizes());
+        sizes.put("addressTrigrams", addressIndex.size());
+        sizes.put("references", referenceIndex.size());
+        return sizes;
+    }
+
+    private static void putAll(Map<String, Integer> sizes, String prefix, Map<String, Integer> sizesToAdd) {
+        sizesToAdd.forEach((name, size) -> sizes.put(prefix + name, size));
+    }
+
+    /**
+     * Returns the number of modifications made to the lists of this address book.
+     * The count changes whenever any client, deal, event or property is added, edited or removed.
+     */
+    public long getModificationCount() {
+        return clients.getModificationCount() + deals.getModificationCount() + events.getModificationCount()
+                + properties.getModificationCount();
+    }
+
+    @Override
+    public long getClientListVersion() {
+        return clients.getVersion();
+    }
+
+    @Override
+    public long getDealListVersion() {
+        return deals.getVersion();
+    }
+
+    @Override
+    public long getEventListVersion() {
+        return events.getVersion();
+    }
+
+    @Override
+    public long getPropertyListVersion() {
+        return properties.getVersion();
+    }
+
+    @Override
+    public Optional<List<ListChange<Client>>> getClientChangesSince(long version) {
+        return clients.getChangesSince(version);
+    }
+
+    @Override
+    public Optional<List<ListChange<Deal>>> getDealChangesSince(long version) {
+        return deals.getChangesSince(version);
+    }
+
+    @Override
+    public Optional<List<ListChange<Event>>> getEventChangesSince(long version) {
+        return events.getChangesSince(version);
+    }
+
+    @Override
+    public Optional<List<ListChange<Property>>> getPropertyChangesSince(long version) {
+        return properties.getChangesSince(version);
+    }
+
     @Override
     public ObservableList<Client> getClientList() {
         return clients.asUnmodifiableObservableList();
@@ -0,0 +1,48 @@
+package seedu.address.model;
+
+import java.util.function.Predicate;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a filtered list of {@link ModelManager} being filtered again, which is where find
+ * and list commands spend their time.
+ */
+@Name("seedu.address.FilterUpdate")
+@Label("Filter Update")
+@Category({"REconnect", "Model"})
+@Description("A filtered list filtered with a new predicate")
+@StackTrace(false)
+class FilterUpdateEvent extends jdk.jfr.Event {
+
+    @Label("List")
+    private String listName;
+
+    @Label("Predicate")
+    private String predicate;
+
+    @Label("Shown")
+    private int shownCount;
+
+    @Label("Total")
+    private int totalCount;
+
+    /**
+     * Ends the event and commits it with the given details, if the event is being recorded.
+     * The predicate is only described if the event is committed, as describing it can be costly.
+     */
+    void commit(String listName, Predicate<?> predicate, int shownCount, int totalCount) {
+        end();
+        if (shouldCommit()) {
+            this.listName = listName;
+            this.predicate = predicate.toString();
+            this.shownCount = shownCount;
+            this.totalCount = totalCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A change to a list, in which {@code removedCount} items starting from position {@code from} are replaced by the
+ * {@code added} items.
+ */
+public class ListChange<T> {
+    private final int from;
+    private final int removedCount;
+    private final List<T> added;
+
+    /**
+     * Creates a change replacing {@code removedCount} items from position {@code from} with {@code added}.
+     */
+    public ListChange(int from, int removedCount, List<T> added) {
+        requireNonNull(added);
+        assert from >= 0 && removedCount >= 0;
+        this.from = from;
+        this.removedCount = removedCount;
+        this.added = List.copyOf(added);
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Applies this change to {@code list}, which must hold the items this change was made to.
+     */
+    public void applyTo(List<T> list) {
+        List<T> window = list.subList(from, from + removedCount);
+        window.clear();
+        window.addAll(added);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ListChange)) {
+            return false;
+        }
+
+        ListChange<?> otherChange = (ListChange<?>) other;
+        return from == otherChange.from
+                && removedCount == otherChange.removedCount
+                && added.equals(otherChange.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removedCount, added);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("removedCount", removedCount)
+                .add("added", added)
+                .toString();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the changes made to a list, and tracks the version of the list, which stays the same until the list is
+ * changed.
+ * No two lists share a version unless neither was changed since it was created empty, so lists with the same
+ * version hold the same items without comparing them. The changes made since an earlier version can be read back, so
+ * that a copy of the list at that version can be brought up to date without comparing it with the list.
+ * Only the most recent changes are kept, and the changes made before the whole list was replaced are forgotten.
+ */
+public class ListChangeLog<T> {
+    public static final int MAX_CHANGE_COUNT = 1024;
+
+    private static final AtomicLong lastVersion = new AtomicLong();
+
+    private final List<ListChange<T>> changes = new ArrayList<>();
+    private final Map<Long, Long> changeCountsByVersion = new HashMap<>();
+    private long changeCount;
+    private long forgottenChangeCount;
+    private long version;
+    private boolean isVersionCurrent = true;
+
+    /**
+     * Creates a log of a list that is empty and has not been changed yet.
+     */
+    public ListChangeLog() {
+        changeCountsByVersion.put(version, changeCount);
+    }
+
+    /**
+     * Records that {@code removedCount} items starting from position {@code from} were replaced by {@code added}.
+     */
+    public void record(int from, int removedCount, List<T> added) {
+        record(new ListChange<>(from, removedCount, added));
+    }
+
+    /**
+     * Records {@code change} as the latest change to the list.
+     */
+    public void record(ListChange<T> change) {
+        requireNonNull(change);
+        changes.add(change);
+        changeCount++;
+        isVersionCurrent = false;
+        if (changes.size() > MAX_CHANGE_COUNT) {
+            forget(changes.size() / 2);
+        }
+    }
+
+    /**
+     * Records that the whole list was replaced, forgetting the changes made before.
+     */
+    public void recordReplacement() {
+        changeCount++;
+        isVersionCurrent = false;
+        forget(changes.size());
+    }
+
+    /**
+     * Returns the version of the list.
+     */
+    public long getVersion() {
+        if (!isVersionCurrent) {
+            version = lastVersion.incrementAndGet();
+            changeCountsByVersion.put(version, changeCount);
+            isVersionCurrent = true;
+        }
+        return version;
+    }
+
+    /**
+     * Returns the changes made to the list since it was at {@code version}, in order, or an empty {@code Optional} if
+     * they are not known because the list was never at that version, or the changes have been forgotten.
+     */
+    public Optional<List<ListChange<T>>> getChangesSince(long version) {
+        Long changeCountAtVersion = changeCountsByVersion.get(version);
+        if (changeCountAtVersion == null) {
+            return Optional.empty();
+        }
+        int firstChange = (int) (changeCountAtVersion - forgottenChangeCount);
+        return Optional.of(List.copyOf(changes.subList(firstChange, changes.size())));
+    }
+
+    /**
+     * Forgets the {@code count} earliest changes kept, and the versions from before them.
+     */
+    private void forget(int count) {
+        changes.subList(0, count).clear();
+        forgottenChangeCount = changeCount - changes.size();
+        changeCountsByVersion.values().removeIf(changeCountAtVersion -> changeCountAtVersion < forgottenChangeCount);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -8,6 +9,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.client.Client;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
 import seedu.address.model.event.Event;
 import seedu.address.model.property.Property;
 
@@ -63,6 +65,18 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /** Returns the index of the deals, events and properties referring to each client and property */
+    ReferenceIndex getReferenceIndex();
+
+    /** Returns the deals with the given status */
+    Set<Deal> getDealsWithStatus(DealStatus status);
+
+    /**
+     * Returns the number of modifications made to the address book data.
+     * The address book has not changed as long as the returned count stays the same.
+     */
+    long getModificationCount();
+
     /**
      * Returns true if a client with the same identity as {@code client} exists in REconnect.
      */
@@ -93,6 +107,16 @@ public interface Model {
      */
     void setClient(Client target, Client editedClient);
 
+    /**
+     * Replaces the given client {@code target} with {@code editedClient}, and updates every deal, event and property
+     * referring to {@code target} to refer to {@code editedClient} instead.
+     * {@code target} must exist in REconnect.
+     * The client identity of {@code editedClient} must not be the same as another existing client in REconnect,
+     * and the updated deals and events must not be the same as other existing deals and events.
+     * If any of the updates fails, REconnect is left unchanged.
+     */
+    void renameClient(Client target, Client editedClient);
+
     /** Returns an unmodifiable view of the filtered client list */
     ObservableList<Client> getFilteredClientList();
 
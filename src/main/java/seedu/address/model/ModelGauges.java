@@ -0,0 +1,26 @@
+package seedu.address.model;
+
+import java.util.Map;
+import javax.management.MXBean;
+
+/**
+ * The gauges of the model shown through JMX, for watching the size of the data and its indexes in JDK Mission Control
+ * or JConsole. The gauges are read without stopping the application thread, so they may lag behind a command that is
+ * still running.
+ */
+@MXBean
+public interface ModelGauges {
+
+    int getClientCount();
+
+    int getPropertyCount();
+
+    int getDealCount();
+
+    int getEventCount();
+
+    /**
+     * Returns the number of entries in each index kept over the address book, by the name of the index.
+     */
+    Map<String, Integer> getIndexSizes();
+}
@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,22 +17,49 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.predicates.ClientAddressContainsPredicate;
+import seedu.address.model.client.predicates.ClientEmailContainsPredicate;
+import seedu.address.model.client.predicates.ClientNameContainsKeywordsPredicate;
+import seedu.address.model.client.predicates.ClientPhoneContainsPredicate;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
+import seedu.address.model.deal.predicates.DealPriceAbovePredicate;
+import seedu.address.model.deal.predicates.DealPriceBelowPredicate;
+import seedu.address.model.deal.predicates.DealStatusPredicate;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventTimeRangeList;
+import seedu.address.model.event.predicates.EventAboutPropertyPredicate;
+import seedu.address.model.event.predicates.EventAfterDateTimePredicate;
+import seedu.address.model.event.predicates.EventBeforeDateTimePredicate;
+import seedu.address.model.event.predicates.EventOfTypePredicate;
+import seedu.address.model.event.predicates.EventWithClientPredicate;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.predicates.PropertyAddressContainsPredicate;
+import seedu.address.model.property.predicates.PropertyNameContainsKeywordsPredicate;
+import seedu.address.model.property.predicates.PropertyPriceAbovePredicate;
+import seedu.address.model.property.predicates.PropertyPriceBelowPredicate;
+import seedu.address.model.property.predicates.PropertySizeAbovePredicate;
+import seedu.address.model.property.predicates.PropertySizeBelowPredicate;
+import seedu.address.model.query.CompoundPredicate;
+import seedu.address.model.query.QueryPlanner;
 
 /**
  * Represents the in-memory model of REconnect data.
  */
-public class ModelManager implements Model {
+public class ModelManager implements Model, ModelGauges {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Client> filteredClients;
     private final FilteredList<Deal> filteredDeals;
+    private final EventTimeRangeList eventsInTimeRange;
     private final FilteredList<Event> filteredEvents;
     private final FilteredList<Property> filteredProperties;
+    private final QueryPlanner<Client> clientQueryPlanner;
+    private final QueryPlanner<Deal> dealQueryPlanner;
+    private final QueryPlanner<Event> eventQueryPlanner;
+    private final QueryPlanner<Property> propertyQueryPlanner;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -42,8 +73,50 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredClients = new FilteredList<>(this.addressBook.getClientList());
         filteredDeals = new FilteredList<>(this.addressBook.getDealList());
-        filteredEvents = new FilteredList<>(this.addressBook.getEventList());
+        eventsInTimeRange = new EventTimeRangeList(this.addressBook.getEventList());
+        filteredEvents = new FilteredList<>(eventsInTimeRange);
         filteredProperties = new FilteredList<>(this.addressBook.getPropertyList());
+
+        // name keywords and address, phone and email fragments are looked up in indexes instead of searching every
+        // client for each of them; the filtered list still tests every client, but only against the set of matches
+        clientQueryPlanner = new QueryPlanner<Client>(this.addressBook::getModificationCount)
+                .addIndex(ClientNameContainsKeywordsPredicate.class, predicate ->
+                        this.addressBook.getClientsWithNameContainingAny(predicate.getKeywords()))
+                .addIndex(ClientAddressContainsPredicate.class, predicate ->
+                        this.addressBook.getClientsWithAddressContaining(predicate.getAddress()))
+                .addIndex(ClientPhoneContainsPredicate.class, predicate ->
+                        this.addressBook.getClientsWithPhoneContaining(predicate.getPhone()))
+                .addIndex(ClientEmailContainsPredicate.class, predicate ->
+                        this.addressBook.getClientsWithEmailContaining(predicate.getEmail()));
+        // prices are looked up in the sorted price indexes, with both bounds of a conjunction in one range scan
+        dealQueryPlanner = new QueryPlanner<Deal>(this.addressBook::getModificationCount)
+                .addIndex(DealStatusPredicate.class, predicate ->
+                        this.addressBook.getDealsWithStatus(predicate.getStatus()))
+                .addRangeIndex(DealPriceAbovePredicate.class, predicate -> predicate.getPrice().value + 1,
+                        DealPriceBelowPredicate.class, predicate -> predicate.getPrice().value - 1,
+                        this.addressBook::getDealsWithPriceInRange);
+        // the filtered event list only tests the events in the time range shown, so the type, client and property
+        // buckets are only looked up within that range
+        eventQueryPlanner = new QueryPlanner<Event>(this.addressBook::getModificationCount)
+                .addIndex(EventOfTypePredicate.class, predicate -> this.addressBook.getEventsOfType(
+                        predicate.getEventType(), eventsInTimeRange.getAfter(), eventsInTimeRange.getBefore()))
+                .addIndex(EventWithClientPredicate.class, predicate ->
+                        this.addressBook.getEventsWithClientNameContainingAny(predicate.getKeywords(),
+                                eventsInTimeRange.getAfter(), eventsInTimeRange.getBefore()))
+                .addIndex(EventAboutPropertyPredicate.class, predicate ->
+                        this.addressBook.getEventsAboutPropertyNameContainingAny(predicate.getKeywords(),
+                                eventsInTimeRange.getAfter(), eventsInTimeRange.getBefore()));
+        propertyQueryPlanner = new QueryPlanner<Property>(this.addressBook::getModificationCount)
+                .addIndex(PropertyNameContainsKeywordsPredicate.class, predicate ->
+                        this.addressBook.getPropertiesWithNameContainingAny(predicate.getKeywords()))
+                .addIndex(PropertyAddressContainsPredicate.class, predicate ->
+                        this.addressBook.getPropertiesWithAddressContaining(predicate.getAddress()))
+                .addRangeIndex(PropertyPriceAbovePredicate.class, predicate -> predicate.getPrice().value + 1,
+                        PropertyPriceBelowPredicate.class, predicate -> predicate.getPrice().value - 1,
+                        this.addressBook::getPropertiesWithPriceInRange)
+                .addRangeIndex(PropertySizeAbovePredicate.class, PropertySizeAbovePredicate::getMinimumSquareFeet,
+                        PropertySizeBelowPredicate.class, PropertySizeBelowPredicate::getMaximumSquareFeet,
+                        this.addressBook::getPropertiesWithSizeInRange);
     }
 
     public ModelManager() {
@@ -97,6 +170,22 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReferenceIndex getReferenceIndex() {
+        return addressBook.getReferenceIndex();
+    }
+
+    @Override
+    public Set<Deal> getDealsWithStatus(DealStatus status) {
+        requireNonNull(status);
+        return addressBook.getDealsWithStatus(status);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     // === Client Methods ===
     @Override
     public boolean hasClient(Client client) {
@@ -118,7 +207,6 @@ public class ModelManager implements Model {
     @Override
     public void addClient(Client client) {
         addressBook.addClient(client);
-        updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
     }
 
     @Override
@@ -128,11 +216,17 @@ public class ModelManager implements Model {
         addressBook.setClient(target, editedClient);
     }
 
+    @Override
+    public void renameClient(Client target, Client editedClient) {
+        requireAllNonNull(target, editedClient);
+
+        addressBook.renameClient(target, editedClient);
+    }
+
     // === Event Methods ===
     @Override
     public void addEvent(Event event) {
         addressBook.addEvent(event);
-        updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
     }
 
     @Override
@@ -167,7 +261,6 @@ public class ModelManager implements Model {
     @Override
     public void addProperty(Property property) {
         addressBook.addProperty(property);
-        updateFilteredPropertyList(PREDICATE_SHOW_ALL_PROPERTIES);
     }
 
     @Override
@@ -187,7 +280,6 @@ public class ModelManager implements Model {
     @Override
     public void addDeal(Deal deal) {
         addressBook.addDeal(deal);
-        updateFilteredDealList(PREDICATE_SHOW_ALL_DEALS);
     }
 
     @Override
@@ -211,7 +303,10 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredClientList(Predicate<Client> predicate) {
         requireNonNull(predicate);
-        filteredClients.setPredicate(predicate);
+        FilterUpdateEvent event = new FilterUpdateEvent();
+        event.begin();
+        filteredClients.setPredicate(clientQueryPlanner.plan(predicate));
+        event.commit("clients", predicate, filteredClients.size(), addressBook.getClientList().size());
     }
 
     //=========== Filtered Event List Accessors =============================================================
@@ -223,7 +318,32 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
-        filteredEvents.setPredicate(predicate);
+        FilterUpdateEvent event = new FilterUpdateEvent();
+        event.begin();
+        // date and time filters that all events must pass are answered by narrowing the sorted event list before
+        // the predicate is applied
+        LocalDateTime after = null;
+        LocalDateTime before = null;
+        for (Predicate<Event> term : getRequiredTerms(predicate)) {
+            if (term instanceof EventBeforeDateTimePredicate beforePredicate) {
+                before = beforePredicate.getDateTime();
+            } else if (term instanceof EventAfterDateTimePredicate afterPredicate) {
+                after = afterPredicate.getDateTime();
+            }
+        }
+        eventsInTimeRange.setRange(after, before);
+        filteredEvents.setPredicate(eventQueryPlanner.plan(predicate));
+        event.commit("events", predicate, filteredEvents.size(), addressBook.getEventList().size());
+    }
+
+    /**
+     * Returns the terms of {@code predicate} that every item passing it must pass.
+     */
+    private static <T> List<Predicate<T>> getRequiredTerms(Predicate<T> predicate) {
+        if (!(predicate instanceof CompoundPredicate<T> compoundPredicate)) {
+            return List.of(predicate);
+        }
+        return compoundPredicate.isConjunction() ? compoundPredicate.getTerms() : List.of();
     }
 
     //=========== Filtered Deal List Accessors =============================================================
@@ -240,7 +360,10 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredDealList(Predicate<Deal> predicate) {
         requireNonNull(predicate);
-        filteredDeals.setPredicate(predicate);
+        FilterUpdateEvent event = new FilterUpdateEvent();
+        event.begin();
+        filteredDeals.setPredicate(dealQueryPlanner.plan(predicate));
+        event.commit("deals", predicate, filteredDeals.size(), addressBook.getDealList().size());
     }
 
     //=========== Filtered Property List Accessors =============================================================
@@ -257,7 +380,37 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPropertyList(Predicate<Property> predicate) {
         requireNonNull(predicate);
-        filteredProperties.setPredicate(predicate);
+        FilterUpdateEvent event = new FilterUpdateEvent();
+        event.begin();
+        filteredProperties.setPredicate(propertyQueryPlanner.plan(predicate));
+        event.commit("properties", predicate, filteredProperties.size(), addressBook.getPropertyList().size());
+    }
+
+    //=========== Gauges =====================================================================================
+
+    @Override
+    public int getClientCount() {
+        return addressBook.getClientList().size();
+    }
+
+    @Override
+    public int getPropertyCount() {
+        return addressBook.getPropertyList().size();
+    }
+
+    @Override
+    public int getDealCount() {
+        return addressBook.getDealList().size();
+    }
+
+    @Override
+    public int getEventCount() {
+        return addressBook.getEventList().size();
+    }
+
+    @Override
+    public Map<String, Integer> getIndexSizes() {
+        return addressBook.getIndexSizes();
     }
 
     @Override
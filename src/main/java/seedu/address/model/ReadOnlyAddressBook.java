@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
 import seedu.address.model.deal.Deal;
@@ -11,6 +14,9 @@ import seedu.address.model.property.Property;
  */
 public interface ReadOnlyAddressBook {
 
+    /** The version of a list whose modifications are not tracked. */
+    long UNKNOWN_VERSION = -1;
+
     /**
      * Returns an unmodifiable view of the clients list.
      * This list will not contain any duplicate clients.
@@ -28,9 +34,69 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate events.
      */
     ObservableList<Event> getEventList();
+
     /**
      * Returns an unmodifiable view of the properties list.
      * This list will not contain any duplicate properties.
      */
     ObservableList<Property> getPropertyList();
+
+    /**
+     * Returns the version of the clients list, which changes whenever the list is modified, or
+     * {@code UNKNOWN_VERSION} if modifications are not tracked.
+     * Lists with the same known version hold the same clients.
+     */
+    default long getClientListVersion() {
+        return UNKNOWN_VERSION;
+    }
+
+    /**
+     * Returns the version of the deals list, like {@link #getClientListVersion()}.
+     */
+    default long getDealListVersion() {
+        return UNKNOWN_VERSION;
+    }
+
+    /**
+     * Returns the version of the events list, like {@link #getClientListVersion()}.
+     */
+    default long getEventListVersion() {
+        return UNKNOWN_VERSION;
+    }
+
+    /**
+     * Returns the version of the properties list, like {@link #getClientListVersion()}.
+     */
+    default long getPropertyListVersion() {
+        return UNKNOWN_VERSION;
+    }
+
+    /**
+     * Returns the changes made to the clients list since it was at {@code version}, in order, or an empty
+     * {@code Optional} if they are not known, which is always the case when modifications are not tracked.
+     */
+    default Optional<List<ListChange<Client>>> getClientChangesSince(long version) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the changes made to the deals list, like {@link #getClientChangesSince(long)}.
+     */
+    default Optional<List<ListChange<Deal>>> getDealChangesSince(long version) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the changes made to the events list, like {@link #getClientChangesSince(long)}.
+     */
+    default Optional<List<ListChange<Event>>> getEventChangesSince(long version) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the changes made to the properties list, like {@link #getClientChangesSince(long)}.
+     */
+    default Optional<List<ListChange<Property>>> getPropertyChangesSince(long version) {
+        return Optional.empty();
+    }
 }
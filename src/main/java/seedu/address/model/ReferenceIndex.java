@@ -0,0 +1,154 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.client.ClientName;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
+
+/**
+ * Indexes the deals, events and properties of an {@code AddressBook} by the client and property names they refer to,
+ * so that everything referring to a client or a property can be found without scanning every list.
+ * The index is kept up to date by {@code AddressBook}.
+ */
+public class ReferenceIndex {
+
+    private final Map<ClientName, Set<Deal>> dealsByClient = new HashMap<>();
+    private final Map<PropertyName, Set<Deal>> dealsByProperty = new HashMap<>();
+    private final Map<ClientName, Set<Event>> eventsByClient = new HashMap<>();
+    private final Map<PropertyName, Set<Event>> eventsByProperty = new HashMap<>();
+    private final Map<ClientName, Set<Property>> propertiesByOwner = new HashMap<>();
+
+    /**
+     * Returns the deals in which the client named {@code clientName} is the buyer or the seller.
+     */
+    public Set<Deal> getDeals(ClientName clientName) {
+        requireNonNull(clientName);
+        return get(dealsByClient, clientName);
+    }
+
+    /**
+     * Returns the deals for the property named {@code propertyName}.
+     */
+    public Set<Deal> getDeals(PropertyName propertyName) {
+        requireNonNull(propertyName);
+        return get(dealsByProperty, propertyName);
+    }
+
+    /**
+     * Returns the events with the client named {@code clientName}.
+     */
+    public Set<Event> getEvents(ClientName clientName) {
+        requireNonNull(clientName);
+        return get(eventsByClient, clientName);
+    }
+
+    /**
+     * Returns the events about the property named {@code propertyName}.
+     */
+    public Set<Event> getEvents(PropertyName propertyName) {
+        requireNonNull(propertyName);
+        return get(eventsByProperty, propertyName);
+    }
+
+    /**
+     * Returns the properties owned by the client named {@code clientName}.
+     */
+    public Set<Property> getProperties(ClientName clientName) {
+        requireNonNull(clientName);
+        return get(propertiesByOwner, clientName);
+    }
+
+    /**
+     * Returns the number of client and property names that something in the index refers to, counting a name once
+     * for each kind of reference.
+     */
+    public int size() {
+        return dealsByClient.size() + dealsByProperty.size() + eventsByClient.size() + eventsByProperty.size()
+                + propertiesByOwner.size();
+    }
+
+    void addDeal(Deal deal) {
+        put(dealsByClient, deal.getBuyer(), deal);
+        put(dealsByClient, deal.getSeller(), deal);
+        put(dealsByProperty, deal.getPropertyName(), deal);
+    }
+
+    void removeDeal(Deal deal) {
+        remove(dealsByClient, deal.getBuyer(), deal);
+        remove(dealsByClient, deal.getSeller(), deal);
+        remove(dealsByProperty, deal.getPropertyName(), deal);
+    }
+
+    void addEvent(Event event) {
+        put(eventsByClient, event.getClientName(), event);
+        put(eventsByProperty, event.getPropertyName(), event);
+    }
+
+    void removeEvent(Event event) {
+        remove(eventsByClient, event.getClientName(), event);
+        remove(eventsByProperty, event.getPropertyName(), event);
+    }
+
+    void addProperty(Property property) {
+        put(propertiesByOwner, property.getOwner(), property);
+    }
+
+    void removeProperty(Property property) {
+        remove(propertiesByOwner, property.getOwner(), property);
+    }
+
+    /**
+     * Replaces the indexed deals with {@code deals}.
+     */
+    void setDeals(Iterable<Deal> deals) {
+        dealsByClient.clear();
+        dealsByProperty.clear();
+        deals.forEach(this::addDeal);
+    }
+
+    /**
+     * Replaces the indexed events with {@code events}.
+     */
+    void setEvents(Iterable<Event> events) {
+        eventsByClient.clear();
+        eventsByProperty.clear();
+        events.forEach(this::addEvent);
+    }
+
+    /**
+     * Replaces the indexed properties with {@code properties}.
+     */
+    void setProperties(Iterable<Property> properties) {
+        propertiesByOwner.clear();
+        properties.forEach(this::addProperty);
+    }
+
+    private static <K, V> Set<V> get(Map<K, Set<V>> index, K key) {
+        Set<V> values = index.get(key);
+        return values == null ? Collections.emptySet() : Collections.unmodifiableSet(values);
+    }
+
+    private static <K, V> void put(Map<K, Set<V>> index, K key, V value) {
+        index.computeIfAbsent(key, unused -> new HashSet<>()).add(value);
+    }
+
+    private static <K, V> void remove(Map<K, Set<V>> index, K key, V value) {
+        Set<V> values = index.get(key);
+        if (values == null) {
+            return;
+        }
+        values.remove(value);
+        if (values.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
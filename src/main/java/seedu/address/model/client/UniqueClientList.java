@@ -3,14 +3,26 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.ListChange;
+import seedu.address.model.ListChangeLog;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.index.SubstringIndex;
+import seedu.address.model.index.TokenIndex;
+import seedu.address.model.index.TrigramIndex;
 
 /**
  * A list of clients that enforces uniqueness between its elements and does not allow nulls.
@@ -19,6 +31,13 @@ import seedu.address.model.client.exceptions.DuplicateClientException;
  * unique in terms of identity in the UniqueClientList. However, the removal of a client uses Client#equals(Object) so
  * as to ensure that the client with exactly the same fields will be removed.
  *
+ * Since two clients are the same client if they share either a name or a phone number, the list keeps a hash index from
+ * each of these fields to the position of its client, so that identity checks do not need to scan the whole list.
+ * It also keeps an inverted index from the words in client names to the clients, for keyword searches, indexes
+ * client addresses by trigram, for address fragment searches, and indexes phone numbers and emails by trigram in the
+ * same way, for partial phone number and email searches.
+ * The indexes are updated before the list itself, so that listeners of the list find them up to date.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Client#isSameClient(Client)
@@ -28,13 +47,38 @@ public class UniqueClientList implements Iterable<Client> {
     private final ObservableList<Client> internalList = FXCollections.observableArrayList();
     private final ObservableList<Client> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<ClientName, Integer> positionsByName = new HashMap<>();
+    private final Map<Phone, Integer> positionsByPhone = new HashMap<>();
+    private final TokenIndex<Client> nameTokens = new TokenIndex<>();
+    private final SubstringIndex<Client> phoneIndex = new SubstringIndex<>();
+    private final SubstringIndex<Client> emailIndex = new SubstringIndex<>();
+    private final TrigramIndex addressIndex;
+    private final Map<String, Set<Client>> clientsByAddress = new HashMap<>();
+    private long modificationCount;
+    private final ListChangeLog<Client> changeLog = new ListChangeLog<>();
+
+    /**
+     * Creates an empty list.
+     */
+    public UniqueClientList() {
+        this(new TrigramIndex());
+    }
+
+    /**
+     * Creates an empty list that indexes the addresses of its clients in {@code addressIndex}, which may be shared
+     * with other lists.
+     */
+    public UniqueClientList(TrigramIndex addressIndex) {
+        requireNonNull(addressIndex);
+        this.addressIndex = addressIndex;
+    }
 
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(client -> toCheck.isSameClient(client));
+        return positionsByName.containsKey(toCheck.getFullName()) || positionsByPhone.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -43,9 +87,47 @@ public class UniqueClientList implements Iterable<Client> {
     public boolean contains(Client toCheck, Index index) {
         requireNonNull(toCheck);
         int excludeIndex = index.getZeroBased(); // skip this index
-        return internalList.stream()
-                .filter(client -> internalList.indexOf(client) != excludeIndex)
-                .anyMatch(client -> toCheck.isSameClient(client));
+        return containsExcluding(toCheck, excludeIndex);
+    }
+
+    /**
+     * Returns the clients whose name contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Client> getClientsWithNameContainingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return nameTokens.getAnyOf(keywords);
+    }
+
+    /**
+     * Returns the clients whose phone number contains {@code fragment}.
+     */
+    public Set<Client> getClientsWithPhoneContaining(String fragment) {
+        requireNonNull(fragment);
+        return phoneIndex.getContaining(fragment);
+    }
+
+    /**
+     * Returns the clients whose email contains {@code fragment}.
+     */
+    public Set<Client> getClientsWithEmailContaining(String fragment) {
+        requireNonNull(fragment);
+        return emailIndex.getContaining(fragment);
+    }
+
+    /**
+     * Returns the clients whose address contains {@code fragment}, ignoring case.
+     */
+    public Set<Client> getClientsWithAddressContaining(String fragment) {
+        requireNonNull(fragment);
+        Set<Client> clients = new HashSet<>();
+        for (String address : addressIndex.getTextsContaining(fragment)) {
+            // the address index may be shared, so some of its addresses belong to no client
+            Set<Client> clientsWithAddress = clientsByAddress.get(address);
+            if (clientsWithAddress != null) {
+                clients.addAll(clientsWithAddress);
+            }
+        }
+        return clients;
     }
 
     /**
@@ -57,6 +139,12 @@ public class UniqueClientList implements Iterable<Client> {
         if (contains(toAdd)) {
             throw new DuplicateClientException();
         }
+        addToIndexes(toAdd, internalList.size());
+        nameTokens.add(toAdd, toAdd.getFullName().fullName);
+        addToAddressIndex(toAdd);
+        addToContactIndexes(toAdd);
+        modificationCount++;
+        changeLog.record(internalList.size(), 0, List.of(toAdd));
         internalList.add(toAdd);
     }
 
@@ -68,17 +156,25 @@ public class UniqueClientList implements Iterable<Client> {
     public void setClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ClientNotFoundException();
         }
 
-        if (internalList.stream()
-                .filter(client -> internalList.indexOf(client) != index)
-                .anyMatch(client -> editedClient.isSameClient(client))) {
+        if (containsExcluding(editedClient, index)) {
             throw new DuplicateClientException();
         }
 
+        removeFromIndexes(target);
+        addToIndexes(editedClient, index);
+        nameTokens.remove(target, target.getFullName().fullName);
+        nameTokens.add(editedClient, editedClient.getFullName().fullName);
+        removeFromAddressIndex(target);
+        addToAddressIndex(editedClient);
+        removeFromContactIndexes(target);
+        addToContactIndexes(editedClient);
+        modificationCount++;
+        changeLog.record(index, 1, List.of(editedClient));
         internalList.set(index, editedClient);
     }
 
@@ -88,13 +184,28 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void remove(Client toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ClientNotFoundException();
         }
+        removeFromIndexes(toRemove);
+        nameTokens.remove(toRemove, toRemove.getFullName().fullName);
+        removeFromAddressIndex(toRemove);
+        removeFromContactIndexes(toRemove);
+        // clients after the removed one move up by one position
+        for (int i = index + 1; i < internalList.size(); i++) {
+            addToIndexes(internalList.get(i), i - 1);
+        }
+        modificationCount++;
+        changeLog.record(index, 1, List.of());
+        internalList.remove(index);
     }
 
     public void setClients(UniqueClientList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
+        modificationCount++;
+        changeLog.recordReplacement();
         internalList.setAll(replacement.internalList);
     }
 
@@ -108,6 +219,9 @@ public class UniqueClientList implements Iterable<Client> {
             throw new DuplicateClientException();
         }
 
+        rebuildIndexes(clients);
+        modificationCount++;
+        changeLog.recordReplacement();
         internalList.setAll(clients);
     }
 
@@ -118,6 +232,44 @@ public class UniqueClientList implements Iterable<Client> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the number of entries in each index kept over the clients, by the name of the index.
+     */
+    public Map<String, Integer> getIndexSizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        sizes.put("nameWords", nameTokens.size());
+        sizes.put("phoneTrigrams", phoneIndex.size());
+        sizes.put("emailTrigrams", emailIndex.size());
+        sizes.put("addresses", clientsByAddress.size());
+        return sizes;
+    }
+
+    /**
+     * Returns the number of times the contents of this list have been modified.
+     * The count only grows, so callers can tell whether the list has changed since they last looked at it.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the version of the contents of this list, which changes whenever the list is modified.
+     * Lists with the same version hold the same items.
+     */
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    /**
+     * Returns the changes made to this list since it was at {@code version}, or an empty {@code Optional} if they are
+     * not known.
+     *
+     * @see ListChangeLog#getChangesSince(long)
+     */
+    public Optional<List<ListChange<Client>>> getChangesSince(long version) {
+        return changeLog.getChangesSince(version);
+    }
+
     @Override
     public Iterator<Client> iterator() {
         return internalList.iterator();
@@ -148,15 +300,91 @@ public class UniqueClientList implements Iterable<Client> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of the client equal to {@code client} in the list, or -1 if there is no such client.
+     */
+    private int indexOf(Client client) {
+        Integer position = positionsByName.get(client.getFullName());
+        if (position == null || !internalList.get(position).equals(client)) {
+            return -1;
+        }
+        return position;
+    }
+
+    /**
+     * Returns true if a client at a position other than {@code excludedPosition} has the same identity as
+     * {@code toCheck}.
+     */
+    private boolean containsExcluding(Client toCheck, int excludedPosition) {
+        Integer positionWithSameName = positionsByName.get(toCheck.getFullName());
+        Integer positionWithSamePhone = positionsByPhone.get(toCheck.getPhone());
+        return (positionWithSameName != null && positionWithSameName != excludedPosition)
+                || (positionWithSamePhone != null && positionWithSamePhone != excludedPosition);
+    }
+
+    private void addToIndexes(Client client, int position) {
+        positionsByName.put(client.getFullName(), position);
+        positionsByPhone.put(client.getPhone(), position);
+    }
+
+    private void removeFromIndexes(Client client) {
+        positionsByName.remove(client.getFullName());
+        positionsByPhone.remove(client.getPhone());
+    }
+
+    private void addToContactIndexes(Client client) {
+        phoneIndex.add(client, client.getPhone().value);
+        emailIndex.add(client, client.getEmail().value);
+    }
+
+    private void removeFromContactIndexes(Client client) {
+        phoneIndex.remove(client, client.getPhone().value);
+        emailIndex.remove(client, client.getEmail().value);
+    }
+
+    private void addToAddressIndex(Client client) {
+        String address = client.getAddress().value;
+        addressIndex.add(address);
+        clientsByAddress.computeIfAbsent(address, unused -> new HashSet<>()).add(client);
+    }
+
+    private void removeFromAddressIndex(Client client) {
+        String address = client.getAddress().value;
+        addressIndex.remove(address);
+        Set<Client> clientsWithAddress = clientsByAddress.get(address);
+        clientsWithAddress.remove(client);
+        if (clientsWithAddress.isEmpty()) {
+            clientsByAddress.remove(address);
+        }
+    }
+
+    private void rebuildIndexes(List<Client> clients) {
+        positionsByName.clear();
+        positionsByPhone.clear();
+        nameTokens.clear();
+        phoneIndex.clear();
+        emailIndex.clear();
+        // the address index may be shared, so only the addresses of the replaced clients are removed from it
+        internalList.forEach(this::removeFromAddressIndex);
+        for (int i = 0; i < clients.size(); i++) {
+            Client client = clients.get(i);
+            addToIndexes(client, i);
+            nameTokens.add(client, client.getFullName().fullName);
+            addToAddressIndex(client);
+            addToContactIndexes(client);
+        }
+    }
+
     /**
      * Returns true if {@code clients} contains only unique clients.
+     * Clients are unique if no two of them share a name or a phone number.
      */
     private boolean clientsAreUnique(List<Client> clients) {
-        for (int i = 0; i < clients.size() - 1; i++) {
-            for (int j = i + 1; j < clients.size(); j++) {
-                if (clients.get(i).isSameClient(clients.get(j))) {
-                    return false;
-                }
+        Set<ClientName> names = new HashSet<>();
+        Set<Phone> phones = new HashSet<>();
+        for (Client client : clients) {
+            if (!names.add(client.getFullName()) || !phones.add(client.getPhone())) {
+                return false;
             }
         }
         return true;
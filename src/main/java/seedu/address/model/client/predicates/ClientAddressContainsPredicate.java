@@ -15,9 +15,25 @@ public class ClientAddressContainsPredicate extends ClientPredicate<String> {
         super(address);
     }
 
+    /**
+     * Returns the fragment that addresses must contain.
+     */
+    public String getAddress() {
+        return value;
+    }
+
     @Override
     public boolean test(Client client) {
         return client.getAddress().toString().toLowerCase().contains(value.toLowerCase());
     }
-}
 
+    @Override
+    public double getEstimatedCost() {
+        return SUBSTRING_MATCH_COST;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return SUBSTRING_MATCH_SELECTIVITY;
+    }
+}
@@ -16,8 +16,25 @@ public class ClientEmailContainsPredicate extends ClientPredicate<String> {
         super(email);
     }
 
+    /**
+     * Returns the fragment that emails must contain.
+     */
+    public String getEmail() {
+        return value;
+    }
+
     @Override
     public boolean test(Client client) {
         return client.getEmail().toString().contains(value);
     }
+
+    @Override
+    public double getEstimatedCost() {
+        return SUBSTRING_MATCH_COST;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return SUBSTRING_MATCH_SELECTIVITY;
+    }
 }
@@ -15,8 +15,25 @@ public class ClientPhoneContainsPredicate extends ClientPredicate<String> {
         super(phone);
     }
 
+    /**
+     * Returns the fragment that phone numbers must contain.
+     */
+    public String getPhone() {
+        return value;
+    }
+
     @Override
     public boolean test(Client client) {
         return client.getPhone().toString().contains(value);
     }
+
+    @Override
+    public double getEstimatedCost() {
+        return SUBSTRING_MATCH_COST;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return SUBSTRING_MATCH_SELECTIVITY;
+    }
 }
@@ -3,11 +3,12 @@ package seedu.address.model.client.predicates;
 import java.util.function.Predicate;
 
 import seedu.address.model.client.Client;
+import seedu.address.model.query.QueryTerm;
 
 /**
  * Generic class for predicates that are used to filter clients.
  */
-public abstract class ClientPredicate<T> implements Predicate<Client> {
+public abstract class ClientPredicate<T> implements Predicate<Client>, QueryTerm {
     protected final T value;
 
     public ClientPredicate(T value) {
@@ -3,23 +3,34 @@ package seedu.address.model.commons;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.Keyword;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.query.QueryTerm;
 
 /**
  * Tests that a {@code Client}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate<T extends Nameable<T>> implements Predicate<T> {
+public class NameContainsKeywordsPredicate<T extends Nameable<T>> implements Predicate<T>, QueryTerm {
     protected final List<String> keywords;
+    private final List<Keyword> nameKeywords;
 
+    /**
+     * Constructs a {@code NameContainsKeywordsPredicate}.
+     *
+     * @param keywords The keywords to be used as a filter. Each keyword must be a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        nameKeywords = Keyword.of(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(T nameable) {
-        return keywords.stream()
-            .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(nameable.getFullName().toString(), keyword));
+        return Keyword.anyIsWordIn(nameKeywords, nameable.getFullName().toString());
     }
 
     @Override
@@ -40,4 +51,14 @@ public class NameContainsKeywordsPredicate<T extends Nameable<T>> implements Pre
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
     }
+
+    @Override
+    public double getEstimatedCost() {
+        return WORD_MATCH_COST * nameKeywords.size();
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return QueryTerm.getWordMatchSelectivity(nameKeywords.size());
+    }
 }
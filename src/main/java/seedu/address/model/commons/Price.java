@@ -1,5 +1,7 @@
 package seedu.address.model.commons;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Represents a Property's price in REconnect.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(Long)}
@@ -12,7 +14,7 @@ public class Price {
 
     public static final String VALIDATION_REGEX = "^[1-9]\\d{2,5}$";
 
-    public final Long value;
+    public final long value;
 
     /**
      * Constructs a {@code Price}.
@@ -20,6 +22,7 @@ public class Price {
      * @param price A valid price value
      */
     public Price(Long price) {
+        requireNonNull(price);
         this.value = price;
     }
 
@@ -54,7 +57,7 @@ public class Price {
      */
     @Override
     public String toString() {
-        return value.toString();
+        return Long.toString(value);
     }
 
     @Override
@@ -68,11 +71,11 @@ public class Price {
             return false;
         }
 
-        return value.equals(otherPrice.value);
+        return value == otherPrice.value;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(value);
     }
 }
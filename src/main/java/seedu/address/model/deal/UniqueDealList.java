@@ -3,13 +3,24 @@ package seedu.address.model.deal;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ListChange;
+import seedu.address.model.ListChangeLog;
 import seedu.address.model.deal.exceptions.DealNotFoundException;
 import seedu.address.model.deal.exceptions.DuplicateDealException;
+import seedu.address.model.index.SortedLongIndex;
 
 /**
  * A list of deals that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +29,10 @@ import seedu.address.model.deal.exceptions.DuplicateDealException;
  * added or updated is unique in terms of identity in the UniqueDealList. However, the removal of a deal uses
  * Deal#equals(Object) so as to ensure that the deal with exactly the same fields will be removed.
  *
+ * The list keeps an index of the deals sorted by price, for price range searches, and the deals of each status.
+ * The identities of the deals are hashed so that duplicate checks do not need to scan the whole list.
+ * The indexes are updated before the list itself, so that listeners of the list find them up to date.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Deal#isSameDeal(Deal)
@@ -27,13 +42,42 @@ public class UniqueDealList implements Iterable<Deal> {
     private final ObservableList<Deal> internalList = FXCollections.observableArrayList();
     private final ObservableList<Deal> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<List<Object>> identities = new HashSet<>();
+    private final SortedLongIndex<Deal> priceIndex = new SortedLongIndex<>(deal -> deal.getPrice().value);
+    private final Map<DealStatus, Set<Deal>> dealsByStatus = new EnumMap<>(DealStatus.class);
+    private long modificationCount;
+    private final ListChangeLog<Deal> changeLog = new ListChangeLog<>();
+
+    /**
+     * Creates an empty list.
+     */
+    public UniqueDealList() {
+        for (DealStatus status : DealStatus.values()) {
+            dealsByStatus.put(status, new HashSet<>());
+        }
+    }
 
     /**
      * Returns true if the list contains an equivalent deal as the given argument.
      */
     public boolean contains(Deal toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDeal);
+        return identities.contains(identityOf(toCheck));
+    }
+
+    /**
+     * Returns the deals whose price is at least {@code min} and at most {@code max}.
+     */
+    public Set<Deal> getDealsWithPriceInRange(long min, long max) {
+        return priceIndex.getInRange(min, max);
+    }
+
+    /**
+     * Returns the deals with the given status.
+     */
+    public Set<Deal> getDealsWithStatus(DealStatus status) {
+        requireNonNull(status);
+        return Collections.unmodifiableSet(dealsByStatus.get(status));
     }
 
     /**
@@ -45,6 +89,9 @@ public class UniqueDealList implements Iterable<Deal> {
         if (contains(toAdd)) {
             throw new DuplicateDealException();
         }
+        addToIndexes(toAdd);
+        modificationCount++;
+        changeLog.record(internalList.size(), 0, List.of(toAdd));
         internalList.add(toAdd);
     }
 
@@ -65,22 +112,79 @@ public class UniqueDealList implements Iterable<Deal> {
             throw new DuplicateDealException();
         }
 
+        removeFromIndexes(target);
+        addToIndexes(editedDeal);
+        modificationCount++;
+        changeLog.record(index, 1, List.of(editedDeal));
         internalList.set(index, editedDeal);
     }
 
+    /**
+     * Replaces each deal that is a key of {@code replacements} with the deal it maps to.
+     * Every key must exist in the list. The deal identities after the replacements must be unique. Both are checked
+     * before any deal is replaced, so the list is unchanged if either check fails.
+     * Only the index entries of the replaced deals are updated, so the cost grows with the number of replacements
+     * rather than with the size of the list, apart from a single pass to locate the replaced deals.
+     */
+    public void replaceAll(Map<Deal, Deal> replacements) {
+        requireNonNull(replacements);
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        Map<Deal, Integer> positions = positionsOf(replacements.keySet());
+        checkUniqueAfterReplacing(replacements);
+
+        replacements.keySet().forEach(this::removeFromIndexes);
+        replacements.values().forEach(this::addToIndexes);
+        modificationCount++;
+        replacements.forEach((target, editedDeal) -> {
+            changeLog.record(positions.get(target), 1, List.of(editedDeal));
+            internalList.set(positions.get(target), editedDeal);
+        });
+    }
+
+    /**
+     * Checks that the deal identities would still be unique after replacing each deal that is a key of
+     * {@code replacements} with the deal it maps to. The list is not changed.
+     *
+     * @throws DuplicateDealException if two deals would share an identity.
+     */
+    public void checkUniqueAfterReplacing(Map<Deal, Deal> replacements) {
+        requireNonNull(replacements);
+        Set<List<Object>> replacedIdentities = new HashSet<>();
+        replacements.keySet().forEach(target -> replacedIdentities.add(identityOf(target)));
+        Set<List<Object>> newIdentities = new HashSet<>();
+        for (Deal editedDeal : replacements.values()) {
+            List<Object> identity = identityOf(editedDeal);
+            boolean isTaken = identities.contains(identity) && !replacedIdentities.contains(identity);
+            if (isTaken || !newIdentities.add(identity)) {
+                throw new DuplicateDealException();
+            }
+        }
+    }
+
     /**
      * Removes the equivalent deal from the list.
      * The deal must exist in the list.
      */
     public void remove(Deal toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new DealNotFoundException();
         }
+        removeFromIndexes(toRemove);
+        modificationCount++;
+        changeLog.record(index, 1, List.of());
+        internalList.remove(index);
     }
 
     public void setDeals(UniqueDealList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
+        modificationCount++;
+        changeLog.recordReplacement();
         internalList.setAll(replacement.internalList);
     }
 
@@ -94,6 +198,9 @@ public class UniqueDealList implements Iterable<Deal> {
             throw new DuplicateDealException();
         }
 
+        rebuildIndexes(deals);
+        modificationCount++;
+        changeLog.recordReplacement();
         internalList.setAll(deals);
     }
 
@@ -104,6 +211,41 @@ public class UniqueDealList implements Iterable<Deal> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the number of entries in each index kept over the deals, by the name of the index.
+     */
+    public Map<String, Integer> getIndexSizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        sizes.put("prices", priceIndex.size());
+        return sizes;
+    }
+
+    /**
+     * Returns the number of times the contents of this list have been modified.
+     * The count only grows, so callers can tell whether the list has changed since they last looked at it.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the version of the contents of this list, which changes whenever the list is modified.
+     * Lists with the same version hold the same items.
+     */
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    /**
+     * Returns the changes made to this list since it was at {@code version}, or an empty {@code Optional} if they are
+     * not known.
+     *
+     * @see ListChangeLog#getChangesSince(long)
+     */
+    public Optional<List<ListChange<Deal>>> getChangesSince(long version) {
+        return changeLog.getChangesSince(version);
+    }
+
     @Override
     public Iterator<Deal> iterator() {
         return internalList.iterator();
@@ -135,15 +277,61 @@ public class UniqueDealList implements Iterable<Deal> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of each of {@code deals} in the list, looking through the list once.
+     *
+     * @throws DealNotFoundException if any of {@code deals} is not in the list.
+     */
+    private Map<Deal, Integer> positionsOf(Set<Deal> deals) {
+        Map<Deal, Integer> positions = new HashMap<>();
+        for (int i = 0; i < internalList.size() && positions.size() < deals.size(); i++) {
+            if (deals.contains(internalList.get(i))) {
+                positions.put(internalList.get(i), i);
+            }
+        }
+        if (positions.size() < deals.size()) {
+            throw new DealNotFoundException();
+        }
+        return positions;
+    }
+
+    private void addToIndexes(Deal deal) {
+        identities.add(identityOf(deal));
+        priceIndex.add(deal);
+        dealsByStatus.get(deal.getStatus()).add(deal);
+    }
+
+    private void removeFromIndexes(Deal deal) {
+        identities.remove(identityOf(deal));
+        priceIndex.remove(deal);
+        dealsByStatus.get(deal.getStatus()).remove(deal);
+    }
+
+    private void rebuildIndexes(List<Deal> deals) {
+        identities.clear();
+        deals.forEach(deal -> identities.add(identityOf(deal)));
+        priceIndex.setAll(deals);
+        for (Set<Deal> dealsWithStatus : dealsByStatus.values()) {
+            dealsWithStatus.clear();
+        }
+        for (Deal deal : deals) {
+            dealsByStatus.get(deal.getStatus()).add(deal);
+        }
+    }
+
+    private static List<Object> identityOf(Deal deal) {
+        return List.of(deal.getPropertyName(), deal.getBuyer(), deal.getSeller());
+    }
+
     /**
      * Returns true if {@code deals} contains only unique deals.
+     * Deals are unique if no two of them share the same property, buyer and seller.
      */
-    private boolean dealsAreUnique(List<Deal> deals) {
-        for (int i = 0; i < deals.size() - 1; i++) {
-            for (int j = i + 1; j < deals.size(); j++) {
-                if (deals.get(i).isSameDeal(deals.get(j))) {
-                    return false;
-                }
+    public static boolean dealsAreUnique(List<Deal> deals) {
+        Set<List<Object>> identities = new HashSet<>();
+        for (Deal deal : deals) {
+            if (!identities.add(identityOf(deal))) {
+                return false;
             }
         }
         return true;
@@ -2,17 +2,20 @@ package seedu.address.model.deal.predicates;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.stream.Stream;
+import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.Keyword;
 import seedu.address.model.client.ClientName;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.query.QueryTerm;
 
 /**
  * Tests that a {@code Deal}'s buyer name contains any of the keywords.
  */
 public class DealBuyerNameContainsPredicate extends DealPredicate<ClientName> {
 
+    private final List<Keyword> keywords;
+
     /**
      * Constructs a {@code DealBuyerNameContainsPredicate}.
      *
@@ -21,12 +24,21 @@ public class DealBuyerNameContainsPredicate extends DealPredicate<ClientName> {
     public DealBuyerNameContainsPredicate(ClientName buyerName) {
         super(buyerName);
         requireNonNull(buyerName);
+        keywords = Keyword.ofWords(buyerName.fullName);
     }
 
     @Override
     public boolean test(Deal deal) {
-        String[] keywords = value.fullName.split("\\s+");
-        return Stream.of(keywords)
-            .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(deal.getBuyer().fullName, keyword));
+        return Keyword.anyIsWordIn(keywords, deal.getBuyer().fullName);
+    }
+
+    @Override
+    public double getEstimatedCost() {
+        return WORD_MATCH_COST * keywords.size();
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return QueryTerm.getWordMatchSelectivity(keywords.size());
     }
 }
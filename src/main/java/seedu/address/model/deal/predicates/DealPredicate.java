@@ -3,11 +3,12 @@ package seedu.address.model.deal.predicates;
 import java.util.function.Predicate;
 
 import seedu.address.model.deal.Deal;
+import seedu.address.model.query.QueryTerm;
 
 /**
  * Generic class for predicates that are used to filter deals.
  */
-public abstract class DealPredicate<T> implements Predicate<Deal> {
+public abstract class DealPredicate<T> implements Predicate<Deal>, QueryTerm {
 
     protected final T value;
 
@@ -12,8 +12,22 @@ public class DealPriceAbovePredicate extends DealPredicate<Price> {
         super(price);
     }
 
+    public Price getPrice() {
+        return value;
+    }
+
     @Override
     public boolean test(Deal deal) {
         return deal.getPrice().isMoreThan(value);
     }
+
+    @Override
+    public double getEstimatedCost() {
+        return COMPARISON_COST;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return RANGE_SELECTIVITY;
+    }
 }
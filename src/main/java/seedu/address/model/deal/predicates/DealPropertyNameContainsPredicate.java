@@ -2,17 +2,20 @@ package seedu.address.model.deal.predicates;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.stream.Stream;
+import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.Keyword;
 import seedu.address.model.deal.Deal;
 import seedu.address.model.property.PropertyName;
+import seedu.address.model.query.QueryTerm;
 
 /**
  * Tests that a {@code Deal}'s {@code PropertyName} contains any of the keywords.
  */
 public class DealPropertyNameContainsPredicate extends DealPredicate<PropertyName> {
 
+    private final List<Keyword> keywords;
+
     /**
      * Constructs a {@code DealPropertyNameContainsPredicate}.
      *
@@ -21,12 +24,21 @@ public class DealPropertyNameContainsPredicate extends DealPredicate<PropertyNam
     public DealPropertyNameContainsPredicate(PropertyName propertyName) {
         super(propertyName);
         requireNonNull(propertyName);
+        keywords = Keyword.ofWords(propertyName.fullName);
     }
 
     @Override
     public boolean test(Deal deal) {
-        String[] keywords = value.fullName.split("\\s+");
-        return Stream.of(keywords)
-            .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(deal.getPropertyName().fullName, keyword));
+        return Keyword.anyIsWordIn(keywords, deal.getPropertyName().fullName);
+    }
+
+    @Override
+    public double getEstimatedCost() {
+        return WORD_MATCH_COST * keywords.size();
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return QueryTerm.getWordMatchSelectivity(keywords.size());
     }
 }
@@ -4,6 +4,7 @@ import java.util.logging.Logger;
 
 import seedu.address.model.deal.Deal;
 import seedu.address.model.deal.DealStatus;
+import seedu.address.model.query.QueryTerm;
 
 /**
  * Tests that a {@code Deal}'s status matches the provided status.
@@ -21,6 +22,10 @@ public class DealStatusPredicate extends DealPredicate<DealStatus> {
         super(status);
     }
 
+    public DealStatus getStatus() {
+        return value;
+    }
+
     @Override
     public boolean test(Deal deal) {
         DealStatus dealStatus = deal.getStatus();
@@ -37,4 +42,14 @@ public class DealStatusPredicate extends DealPredicate<DealStatus> {
     public boolean equals(Object other) {
         return super.equals(other);
     }
+
+    @Override
+    public double getEstimatedCost() {
+        return COMPARISON_COST;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return QueryTerm.getEqualitySelectivity(DealStatus.values().length);
+    }
 }
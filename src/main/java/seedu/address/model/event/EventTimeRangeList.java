@@ -0,0 +1,164 @@
+package seedu.address.model.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the events in a list sorted by date and time that fall strictly between an optional lower and an
+ * optional upper bound. Since the source list is sorted, the view is a contiguous range of the source that is
+ * located by binary search, so the events outside of the range are never visited.
+ */
+public class EventTimeRangeList extends TransformationList<Event, Event> {
+
+    private LocalDateTime after;
+    private LocalDateTime before;
+    private int from;
+    private List<Event> shownEvents = new ArrayList<>();
+
+    /**
+     * Creates a view showing all events in {@code source}, which must be sorted by date and time.
+     */
+    public EventTimeRangeList(ObservableList<Event> source) {
+        super(source);
+        updateRange();
+    }
+
+    /**
+     * Restricts the view to the events after {@code after} and before {@code before}.
+     * A null bound leaves that side of the range open.
+     */
+    public void setRange(LocalDateTime after, LocalDateTime before) {
+        this.after = after;
+        this.before = before;
+        updateRange();
+    }
+
+    /**
+     * Returns the date and time that the shown events are after, or null if there is no lower bound.
+     */
+    public LocalDateTime getAfter() {
+        return after;
+    }
+
+    /**
+     * Returns the date and time that the shown events are before, or null if there is no upper bound.
+     */
+    public LocalDateTime getBefore() {
+        return before;
+    }
+
+    /**
+     * Shows all events in the source list.
+     */
+    public void clearRange() {
+        setRange(null, null);
+    }
+
+    /**
+     * Updates the view for the changes to the source list.
+     * Whether an event is shown depends only on its own date and time, so only the events added to or removed from
+     * the source are checked, and listeners of the view are told about those events alone.
+     */
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Event> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                replaceShownEvents();
+                continue;
+            }
+            if (change.wasRemoved()) {
+                removeShownEvents(change.getFrom(), change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                addShownEvents(change.getFrom(), change.getAddedSubList());
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public Event get(int index) {
+        return shownEvents.get(index);
+    }
+
+    @Override
+    public int size() {
+        return shownEvents.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return from + index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index >= from && index < from + size() ? index - from : -1;
+    }
+
+    private void updateRange() {
+        beginChange();
+        replaceShownEvents();
+        endChange();
+    }
+
+    private void replaceShownEvents() {
+        List<Event> removed = shownEvents;
+        List<? extends Event> source = getSource();
+        from = after == null ? 0 : UniqueEventList.indexAfter(source, after);
+        int to = before == null ? source.size() : Math.max(from, UniqueEventList.indexNotBefore(source, before));
+        shownEvents = new ArrayList<>(source.subList(from, to));
+
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+    }
+
+    /**
+     * Hides the events that were removed from position {@code position} of the source list.
+     */
+    private void removeShownEvents(int position, List<? extends Event> removed) {
+        int removedEnd = position + removed.size();
+        int shownFrom = Math.max(position, from);
+        int shownTo = Math.min(removedEnd, from + shownEvents.size());
+        if (shownFrom < shownTo) {
+            List<Event> shownRemoved = shownEvents.subList(shownFrom - from, shownTo - from);
+            nextRemove(shownFrom - from, new ArrayList<>(shownRemoved));
+            shownRemoved.clear();
+        }
+        // events removed before the range move the range up
+        from -= Math.max(0, Math.min(removedEnd, from) - position);
+    }
+
+    /**
+     * Shows the events in the range that were added at position {@code position} of the source list.
+     * Since the source list is sorted, the added events not after the lower bound are all before the range, and the
+     * others are either in the range or after it.
+     */
+    private void addShownEvents(int position, List<? extends Event> added) {
+        int addedBeforeRange = 0;
+        List<Event> addedInRange = new ArrayList<>();
+        for (Event event : added) {
+            if (after != null && !event.getDateTime().isAfter(after)) {
+                addedBeforeRange++;
+            } else if (before == null || event.getDateTime().isBefore(before)) {
+                addedInRange.add(event);
+            }
+        }
+        from += addedBeforeRange;
+        if (!addedInRange.isEmpty()) {
+            int viewIndex = position + addedBeforeRange - from;
+            shownEvents.addAll(viewIndex, addedInRange);
+            nextAdd(viewIndex, viewIndex + addedInRange.size());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A bucket of events kept in date and time order, so that the events of the bucket within a time range are found
+ * by locating the range instead of examining every event in the bucket.
+ */
+class EventTimeline {
+
+    private final NavigableMap<LocalDateTime, List<Event>> eventsByDateTime = new TreeMap<>();
+    private int size;
+
+    /**
+     * Adds {@code event} to the timeline.
+     */
+    void add(Event event) {
+        eventsByDateTime.computeIfAbsent(event.getDateTime(), unused -> new ArrayList<>(1)).add(event);
+        size++;
+    }
+
+    /**
+     * Removes an event equal to {@code event} from the timeline, if there is one.
+     */
+    void remove(Event event) {
+        List<Event> events = eventsByDateTime.get(event.getDateTime());
+        if (events == null || !events.remove(event)) {
+            return;
+        }
+        if (events.isEmpty()) {
+            eventsByDateTime.remove(event.getDateTime());
+        }
+        size--;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds the events of the timeline that are after {@code after} and before {@code before} to {@code result}, in
+     * date and time order. A null bound leaves that side of the range open.
+     */
+    void addInRangeTo(Collection<? super Event> result, LocalDateTime after, LocalDateTime before) {
+        if (after != null && before != null && !after.isBefore(before)) {
+            return;
+        }
+        NavigableMap<LocalDateTime, List<Event>> eventsInRange = eventsByDateTime;
+        if (after != null) {
+            eventsInRange = eventsInRange.tailMap(after, false);
+        }
+        if (before != null) {
+            eventsInRange = eventsInRange.headMap(before, false);
+        }
+        for (List<Event> events : eventsInRange.values()) {
+            result.addAll(events);
+        }
+    }
+}
@@ -30,4 +30,9 @@ public class Note {
 
         return this.note.equals(note.note);
     }
+
+    @Override
+    public int hashCode() {
+        return note.hashCode();
+    }
 }
@@ -3,15 +3,29 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ListChange;
+import seedu.address.model.ListChangeLog;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.index.TokenIndex;
+import seedu.address.model.property.PropertyName;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +34,11 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * added or updated is unique in terms of identity in the UniqueEventList. However, the removal of an event uses
  * Event#equals(Object) so as to ensure that the event with exactly the same fields will be removed.
  *
+ * Events are kept sorted by date and time, so the position of an event is located by binary search, and the
+ * identities of the events in the list are hashed so that duplicate checks do not need to scan the whole list.
+ * The events are also bucketed by type, client and property, with each bucket kept in date and time order, so that
+ * the events of a type, client or property within a time range are found without scanning the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
@@ -29,13 +48,30 @@ public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final Set<List<Object>> identities = new HashSet<>();
+    private final Map<EventType, EventTimeline> eventsByType = new EnumMap<>(EventType.class);
+    private final Map<ClientName, EventTimeline> eventsByClient = new HashMap<>();
+    private final Map<PropertyName, EventTimeline> eventsByProperty = new HashMap<>();
+    private final TokenIndex<ClientName> clientNameTokens = new TokenIndex<>();
+    private final TokenIndex<PropertyName> propertyNameTokens = new TokenIndex<>();
+    private long modificationCount;
+    private final ListChangeLog<Event> changeLog = new ListChangeLog<>();
+
+    /**
+     * Creates an empty list.
+     */
+    public UniqueEventList() {
+        for (EventType type : EventType.values()) {
+            eventsByType.put(type, new EventTimeline());
+        }
+    }
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return identities.contains(identityOf(toCheck));
     }
 
     /**
@@ -47,13 +83,11 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
-        int index = 0;
-        while (index < internalList.size()) {
-            if (toAdd.compareTo(internalList.get(index)) < 0) {
-                break;
-            }
-            index++;
-        }
+        identities.add(identityOf(toAdd));
+        addToBuckets(toAdd);
+        modificationCount++;
+        int index = indexAfter(internalList, toAdd.getDateTime());
+        changeLog.record(index, 0, List.of(toAdd));
         internalList.add(index, toAdd);
     }
 
@@ -65,7 +99,7 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EventNotFoundException();
         }
@@ -74,7 +108,60 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
+        identities.remove(identityOf(target));
+        identities.add(identityOf(editedEvent));
+        removeFromBuckets(target);
+        addToBuckets(editedEvent);
+        modificationCount++;
+        replaceAt(index, target, editedEvent);
+    }
+
+    /**
+     * Replaces each event that is a key of {@code replacements} with the event it maps to.
+     * Every key must exist in the list. The event identities after the replacements must be unique. Both are checked
+     * before any event is replaced, so the list is unchanged if either check fails.
+     * Only the index entries of the replaced events are updated, and each event is located by binary search, so the
+     * cost grows with the number of replacements rather than with the size of the list.
+     */
+    public void replaceAll(Map<Event, Event> replacements) {
+        requireNonNull(replacements);
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        for (Event target : replacements.keySet()) {
+            if (indexOf(target) == -1) {
+                throw new EventNotFoundException();
+            }
+        }
+        checkUniqueAfterReplacing(replacements);
+
+        replacements.keySet().forEach(target -> identities.remove(identityOf(target)));
+        replacements.values().forEach(editedEvent -> identities.add(identityOf(editedEvent)));
+        replacements.keySet().forEach(this::removeFromBuckets);
+        replacements.values().forEach(this::addToBuckets);
+        modificationCount++;
+        replacements.forEach((target, editedEvent) -> replaceAt(indexOf(target), target, editedEvent));
+    }
+
+    /**
+     * Checks that the event identities would still be unique after replacing each event that is a key of
+     * {@code replacements} with the event it maps to. The list is not changed.
+     *
+     * @throws DuplicateEventException if two events would share an identity.
+     */
+    public void checkUniqueAfterReplacing(Map<Event, Event> replacements) {
+        requireNonNull(replacements);
+        Set<List<Object>> replacedIdentities = new HashSet<>();
+        replacements.keySet().forEach(target -> replacedIdentities.add(identityOf(target)));
+        Set<List<Object>> newIdentities = new HashSet<>();
+        for (Event editedEvent : replacements.values()) {
+            List<Object> identity = identityOf(editedEvent);
+            boolean isTaken = identities.contains(identity) && !replacedIdentities.contains(identity);
+            if (isTaken || !newIdentities.add(identity)) {
+                throw new DuplicateEventException();
+            }
+        }
     }
 
     /**
@@ -83,15 +170,25 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        identities.remove(identityOf(toRemove));
+        removeFromBuckets(toRemove);
+        modificationCount++;
+        changeLog.record(index, 1, List.of());
+        internalList.remove(index);
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
+        identities.clear();
+        identities.addAll(replacement.identities);
+        rebuildBuckets(replacement.internalList);
+        modificationCount++;
+        changeLog.recordReplacement();
         internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList);
     }
 
     /**
@@ -105,9 +202,45 @@ public class UniqueEventList implements Iterable<Event> {
         }
         List<Event> sortedEvents = new ArrayList<>(events);
         Collections.sort(sortedEvents);
+        identities.clear();
+        sortedEvents.forEach(event -> identities.add(identityOf(event)));
+        rebuildBuckets(sortedEvents);
+        modificationCount++;
+        changeLog.recordReplacement();
         internalList.setAll(sortedEvents);
     }
 
+    /**
+     * Returns the events of the given type that are after {@code after} and before {@code before}.
+     * A null bound leaves that side of the range open.
+     */
+    public Set<Event> getEventsOfType(EventType type, LocalDateTime after, LocalDateTime before) {
+        requireNonNull(type);
+        Set<Event> events = new HashSet<>();
+        eventsByType.get(type).addInRangeTo(events, after, before);
+        return events;
+    }
+
+    /**
+     * Returns the events whose client name contains any of {@code keywords} as a whole word, ignoring case, that are
+     * after {@code after} and before {@code before}. A null bound leaves that side of the range open.
+     */
+    public Set<Event> getEventsWithClientNameContainingAny(Collection<String> keywords, LocalDateTime after,
+                                                           LocalDateTime before) {
+        requireNonNull(keywords);
+        return getEventsInBuckets(eventsByClient, clientNameTokens.getAnyOf(keywords), after, before);
+    }
+
+    /**
+     * Returns the events whose property name contains any of {@code keywords} as a whole word, ignoring case, that
+     * are after {@code after} and before {@code before}. A null bound leaves that side of the range open.
+     */
+    public Set<Event> getEventsAboutPropertyNameContainingAny(Collection<String> keywords, LocalDateTime after,
+                                                              LocalDateTime before) {
+        requireNonNull(keywords);
+        return getEventsInBuckets(eventsByProperty, propertyNameTokens.getAnyOf(keywords), after, before);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -115,6 +248,45 @@ public class UniqueEventList implements Iterable<Event> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the number of entries in each index kept over the events, by the name of the index.
+     */
+    public Map<String, Integer> getIndexSizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        sizes.put("identities", identities.size());
+        sizes.put("clientTimelines", eventsByClient.size());
+        sizes.put("propertyTimelines", eventsByProperty.size());
+        sizes.put("clientNameWords", clientNameTokens.size());
+        sizes.put("propertyNameWords", propertyNameTokens.size());
+        return sizes;
+    }
+
+    /**
+     * Returns the number of times the contents of this list have been modified.
+     * The count only grows, so callers can tell whether the list has changed since they last looked at it.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the version of the contents of this list, which changes whenever the list is modified.
+     * Lists with the same version hold the same items.
+     */
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    /**
+     * Returns the changes made to this list since it was at {@code version}, or an empty {@code Optional} if they are
+     * not known.
+     *
+     * @see ListChangeLog#getChangesSince(long)
+     */
+    public Optional<List<ListChange<Event>>> getChangesSince(long version) {
+        return changeLog.getChangesSince(version);
+    }
+
     @Override
     public Iterator<Event> iterator() {
         return internalList.iterator();
@@ -145,15 +317,150 @@ public class UniqueEventList implements Iterable<Event> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the index of the first event in the sorted {@code events} that is not before {@code dateTime}.
+     */
+    static int indexNotBefore(List<? extends Event> events, LocalDateTime dateTime) {
+        int low = 0;
+        int high = events.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (events.get(mid).getDateTime().isBefore(dateTime)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first event in the sorted {@code events} that is after {@code dateTime}.
+     */
+    static int indexAfter(List<? extends Event> events, LocalDateTime dateTime) {
+        int low = 0;
+        int high = events.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (events.get(mid).getDateTime().isAfter(dateTime)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the event equal to {@code event} in the list, or -1 if there is no such event.
+     * Only the events sharing the date and time of {@code event} are compared.
+     */
+    private int indexOf(Event event) {
+        for (int i = indexNotBefore(internalList, event.getDateTime()); i < internalList.size(); i++) {
+            Event candidate = internalList.get(i);
+            if (!candidate.getDateTime().equals(event.getDateTime())) {
+                break;
+            }
+            if (candidate.equals(event)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces {@code target}, at position {@code index} in the list, with {@code editedEvent}, moving it if its
+     * date and time changed.
+     */
+    private void replaceAt(int index, Event target, Event editedEvent) {
+        if (target.getDateTime().equals(editedEvent.getDateTime())) {
+            changeLog.record(index, 1, List.of(editedEvent));
+            internalList.set(index, editedEvent);
+            return;
+        }
+        // the edited event may belong elsewhere in the sorted order
+        changeLog.record(index, 1, List.of());
+        internalList.remove(index);
+        int newIndex = indexAfter(internalList, editedEvent.getDateTime());
+        changeLog.record(newIndex, 0, List.of(editedEvent));
+        internalList.add(newIndex, editedEvent);
+    }
+
+    private static <K> Set<Event> getEventsInBuckets(Map<K, EventTimeline> buckets, Set<K> keys,
+                                                     LocalDateTime after, LocalDateTime before) {
+        Set<Event> events = new HashSet<>();
+        for (K key : keys) {
+            buckets.get(key).addInRangeTo(events, after, before);
+        }
+        return events;
+    }
+
+    private void addToBuckets(Event event) {
+        eventsByType.get(event.getEventType()).add(event);
+        addToBucket(eventsByClient, clientNameTokens, event.getClientName(), event);
+        addToBucket(eventsByProperty, propertyNameTokens, event.getPropertyName(), event);
+    }
+
+    private void removeFromBuckets(Event event) {
+        eventsByType.get(event.getEventType()).remove(event);
+        removeFromBucket(eventsByClient, clientNameTokens, event.getClientName(), event);
+        removeFromBucket(eventsByProperty, propertyNameTokens, event.getPropertyName(), event);
+    }
+
+    /**
+     * Adds {@code event} to the bucket of the name {@code key}, indexing the words of the name when its bucket is
+     * created.
+     */
+    private static <K> void addToBucket(Map<K, EventTimeline> buckets, TokenIndex<K> keyTokens, K key,
+                                        Event event) {
+        EventTimeline bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = new EventTimeline();
+            buckets.put(key, bucket);
+            keyTokens.add(key, key.toString());
+        }
+        bucket.add(event);
+    }
+
+    /**
+     * Removes {@code event} from the bucket of the name {@code key}, dropping the bucket and the words of the name
+     * once the bucket is empty.
+     */
+    private static <K> void removeFromBucket(Map<K, EventTimeline> buckets, TokenIndex<K> keyTokens, K key,
+                                             Event event) {
+        EventTimeline bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(event);
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+            keyTokens.remove(key, key.toString());
+        }
+    }
+
+    private void rebuildBuckets(List<Event> events) {
+        eventsByType.replaceAll((type, unused) -> new EventTimeline());
+        eventsByClient.clear();
+        eventsByProperty.clear();
+        clientNameTokens.clear();
+        propertyNameTokens.clear();
+        events.forEach(this::addToBuckets);
+    }
+
+    private static List<Object> identityOf(Event event) {
+        return List.of(event.getDateTime(), event.getEventType(), event.getClientName(), event.getPropertyName());
+    }
+
     /**
      * Returns true if {@code events} contains only unique events.
+     * Events are unique if no two of them share the same date and time, type, client and property.
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+    public static boolean eventsAreUnique(List<Event> events) {
+        Set<List<Object>> identities = new HashSet<>();
+        for (Event event : events) {
+            if (!identities.add(identityOf(event))) {
+                return false;
             }
         }
         return true;
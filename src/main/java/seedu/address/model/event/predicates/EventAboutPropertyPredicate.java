@@ -2,17 +2,20 @@ package seedu.address.model.event.predicates;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.stream.Stream;
+import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.Keyword;
 import seedu.address.model.event.Event;
 import seedu.address.model.property.PropertyName;
+import seedu.address.model.query.QueryTerm;
 
 /**
  * Tests that a {@code Event}'s {@code PropertyName} matches the {@code PropertyName} given.
  */
 public class EventAboutPropertyPredicate extends EventPredicate<PropertyName> {
 
+    private final List<Keyword> keywords;
+
     /**
      * Constructs a {@code EventAboutPropertyPredicate}.
      *
@@ -21,12 +24,28 @@ public class EventAboutPropertyPredicate extends EventPredicate<PropertyName> {
     public EventAboutPropertyPredicate(PropertyName propertyName) {
         super(propertyName);
         requireNonNull(propertyName);
+        keywords = Keyword.ofWords(propertyName.fullName);
+    }
+
+    /**
+     * Returns the words of the given property name, any of which the property name of an event must contain.
+     */
+    public List<String> getKeywords() {
+        return keywords.stream().map(Keyword::getWord).toList();
     }
 
     @Override
     public boolean test(Event event) {
-        String[] keywords = value.fullName.split("\\s+");
-        return Stream.of(keywords)
-            .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(event.getPropertyName().fullName, keyword));
+        return Keyword.anyIsWordIn(keywords, event.getPropertyName().fullName);
+    }
+
+    @Override
+    public double getEstimatedCost() {
+        return WORD_MATCH_COST * keywords.size();
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return QueryTerm.getWordMatchSelectivity(keywords.size());
     }
 }
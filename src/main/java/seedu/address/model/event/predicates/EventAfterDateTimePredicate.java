@@ -13,8 +13,25 @@ public class EventAfterDateTimePredicate extends EventPredicate<LocalDateTime> {
         super(dateTime);
     }
 
+    /**
+     * Returns the date and time that events must be after.
+     */
+    public LocalDateTime getDateTime() {
+        return value;
+    }
+
     @Override
     public boolean test(Event event) {
         return event.getDateTime().isAfter(value);
     }
+
+    @Override
+    public double getEstimatedCost() {
+        return COMPARISON_COST;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return RANGE_SELECTIVITY;
+    }
 }
@@ -13,8 +13,25 @@ public class EventBeforeDateTimePredicate extends EventPredicate<LocalDateTime>
         super(dateTime);
     }
 
+    /**
+     * Returns the date and time that events must be before.
+     */
+    public LocalDateTime getDateTime() {
+        return value;
+    }
+
     @Override
     public boolean test(Event event) {
         return event.getDateTime().isBefore(value);
     }
+
+    @Override
+    public double getEstimatedCost() {
+        return COMPARISON_COST;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return RANGE_SELECTIVITY;
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.event.predicates;
 
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventType;
+import seedu.address.model.query.QueryTerm;
 
 /**
  * Tests that an {@code Event}'s {@code EventType} matches the {@code EventType} given.
@@ -12,8 +13,25 @@ public class EventOfTypePredicate extends EventPredicate<EventType> {
         super(eventType);
     }
 
+    /**
+     * Returns the type that events must be of.
+     */
+    public EventType getEventType() {
+        return value;
+    }
+
     @Override
     public boolean test(Event event) {
         return event.getEventType().equals(value);
     }
+
+    @Override
+    public double getEstimatedCost() {
+        return COMPARISON_COST;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return QueryTerm.getEqualitySelectivity(EventType.values().length);
+    }
 }
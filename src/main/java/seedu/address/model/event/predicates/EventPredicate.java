@@ -3,11 +3,12 @@ package seedu.address.model.event.predicates;
 import java.util.function.Predicate;
 
 import seedu.address.model.event.Event;
+import seedu.address.model.query.QueryTerm;
 
 /**
  * Generic class for predicates that are used to filter events.
  */
-public abstract class EventPredicate<T> implements Predicate<Event> {
+public abstract class EventPredicate<T> implements Predicate<Event>, QueryTerm {
 
     protected final T value;
 
@@ -2,17 +2,20 @@ package seedu.address.model.event.predicates;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.stream.Stream;
+import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.Keyword;
 import seedu.address.model.client.ClientName;
 import seedu.address.model.event.Event;
+import seedu.address.model.query.QueryTerm;
 
 /**
  * Tests that a {@code Event}'s {@code Client} matches the client given.
  */
 public class EventWithClientPredicate extends EventPredicate<ClientName> {
 
+    private final List<Keyword> keywords;
+
     /**
      * Constructs a {@code EventWithClientPredicate}.
      *
@@ -21,12 +24,28 @@ public class EventWithClientPredicate extends EventPredicate<ClientName> {
     public EventWithClientPredicate(ClientName clientName) {
         super(clientName);
         requireNonNull(clientName);
+        keywords = Keyword.ofWords(clientName.fullName);
+    }
+
+    /**
+     * Returns the words of the given client name, any of which the client name of an event must contain.
+     */
+    public List<String> getKeywords() {
+        return keywords.stream().map(Keyword::getWord).toList();
     }
 
     @Override
     public boolean test(Event event) {
-        String[] keywords = value.fullName.split("\\s+");
-        return Stream.of(keywords)
-            .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(event.getClientName().fullName, keyword));
+        return Keyword.anyIsWordIn(keywords, event.getClientName().fullName);
+    }
+
+    @Override
+    public double getEstimatedCost() {
+        return WORD_MATCH_COST * keywords.size();
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return QueryTerm.getWordMatchSelectivity(keywords.size());
     }
 }
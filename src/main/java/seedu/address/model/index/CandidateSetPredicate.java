@@ -0,0 +1,82 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Tests items by looking them up in a set of candidates resolved from an index, instead of examining the fields of
+ * each item. Every item is still tested, so filtering a list of {@code n} items with this predicate takes {@code n}
+ * set lookups after the candidates are resolved, rather than time proportional to the number of candidates.
+ * The candidates are resolved again whenever the indexed data has changed since they were last resolved, so the
+ * predicate stays correct while the data changes.
+ *
+ * @param <T> the type of the tested items.
+ */
+public class CandidateSetPredicate<T> implements Predicate<T> {
+
+    private final Predicate<T> predicate;
+    private final Supplier<Set<T>> candidatesResolver;
+    private final LongSupplier modificationCount;
+
+    private Set<T> candidates;
+    private long resolvedModificationCount;
+
+    /**
+     * Creates a {@code CandidateSetPredicate} equivalent to {@code predicate}.
+     *
+     * @param candidatesResolver returns the items that satisfy {@code predicate}.
+     * @param modificationCount returns a count that changes whenever the result of {@code candidatesResolver} may.
+     */
+    public CandidateSetPredicate(Predicate<T> predicate, Supplier<Set<T>> candidatesResolver,
+                                 LongSupplier modificationCount) {
+        requireAllNonNull(predicate, candidatesResolver, modificationCount);
+        this.predicate = predicate;
+        this.candidatesResolver = candidatesResolver;
+        this.modificationCount = modificationCount;
+    }
+
+    /**
+     * Returns the predicate that this predicate is equivalent to.
+     */
+    public Predicate<T> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean test(T item) {
+        long currentModificationCount = modificationCount.getAsLong();
+        if (candidates == null || currentModificationCount != resolvedModificationCount) {
+            candidates = candidatesResolver.get();
+            resolvedModificationCount = currentModificationCount;
+        }
+        return candidates.contains(item);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CandidateSetPredicate<?> otherPredicate)) {
+            return false;
+        }
+
+        return predicate.equals(otherPredicate.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return predicate.toString();
+    }
+}
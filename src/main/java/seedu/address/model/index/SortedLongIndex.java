@@ -0,0 +1,151 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * An index of items sorted by a {@code long} key taken from each item, for finding the items whose key is in a range.
+ * The keys are kept in a primitive array, so a range is located by binary search without unboxing, and finding the
+ * {@code k} items in a range of {@code n} items takes {@code O(log n + k)} time.
+ *
+ * @param <T> the type of the indexed items.
+ */
+public class SortedLongIndex<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ToLongFunction<? super T> keyExtractor;
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Object[] items = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates an empty index that sorts items by the key returned by {@code keyExtractor}.
+     */
+    public SortedLongIndex(ToLongFunction<? super T> keyExtractor) {
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Adds {@code item} to the index.
+     */
+    public void add(T item) {
+        requireNonNull(item);
+        long key = keyExtractor.applyAsLong(item);
+        int index = indexAbove(key);
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(items, index, items, index + 1, size - index);
+        keys[index] = key;
+        items[index] = item;
+        size++;
+    }
+
+    /**
+     * Removes an item equal to {@code item} from the index, if there is one.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        long key = keyExtractor.applyAsLong(item);
+        for (int index = indexNotBelow(key); index < size && keys[index] == key; index++) {
+            if (items[index].equals(item)) {
+                System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+                System.arraycopy(items, index + 1, items, index, size - index - 1);
+                size--;
+                items[size] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code newItems}.
+     */
+    public void setAll(Collection<? extends T> newItems) {
+        requireNonNull(newItems);
+        List<T> sortedItems = new ArrayList<>(newItems);
+        sortedItems.sort(Comparator.comparingLong(keyExtractor));
+        keys = new long[Math.max(INITIAL_CAPACITY, sortedItems.size())];
+        items = new Object[keys.length];
+        size = sortedItems.size();
+        for (int i = 0; i < size; i++) {
+            items[i] = sortedItems.get(i);
+            keys[i] = keyExtractor.applyAsLong(sortedItems.get(i));
+        }
+    }
+
+    /**
+     * Returns the items whose key is at least {@code min} and at most {@code max}.
+     */
+    @SuppressWarnings("unchecked")
+    public Set<T> getInRange(long min, long max) {
+        if (min > max) {
+            return new HashSet<>();
+        }
+        int from = indexNotBelow(min);
+        int to = indexAbove(max);
+        Set<T> result = new HashSet<>(Math.max(INITIAL_CAPACITY, (to - from) * 4 / 3 + 1));
+        for (int i = from; i < to; i++) {
+            result.add((T) items[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of items in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the first key that is not less than {@code key}.
+     */
+    private int indexNotBelow(long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first key that is greater than {@code key}.
+     */
+    private int indexAbove(long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int newCapacity = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, newCapacity);
+            items = Arrays.copyOf(items, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from the trigrams (substrings of three characters) of the texts of items to the items, for finding the
+ * items whose text contains a fragment.
+ * A fragment can only be in the texts containing every trigram of the fragment, so only the items under its rarest
+ * trigram are checked, in the same way as {@code text.contains(fragment)}. Fragments shorter than a trigram are checked
+ * against every item. Each item takes one entry per distinct trigram of its text, so the index grows linearly with
+ * the total length of the texts.
+ *
+ * @param <T> the type of the indexed items.
+ */
+public class SubstringIndex<T> {
+
+    static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<T, String> texts = new HashMap<>();
+    private final Map<String, Set<T>> postings = new HashMap<>();
+    private int entryCount;
+
+    /**
+     * Indexes {@code item} under the trigrams of {@code text}.
+     */
+    public void add(T item, String text) {
+        requireNonNull(item);
+        requireNonNull(text);
+        String previousText = texts.put(item, text);
+        if (previousText != null) {
+            removePostings(item, previousText);
+        }
+        for (String trigram : trigramsOf(text)) {
+            if (postings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(item)) {
+                entryCount++;
+            }
+        }
+    }
+
+    /**
+     * Removes {@code item}, which must have been added with {@code text}, from the index.
+     */
+    public void remove(T item, String text) {
+        requireNonNull(item);
+        requireNonNull(text);
+        if (texts.remove(item, text)) {
+            removePostings(item, text);
+        }
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        texts.clear();
+        postings.clear();
+        entryCount = 0;
+    }
+
+    /**
+     * Returns the items whose text contains {@code fragment}.
+     */
+    public Set<T> getContaining(String fragment) {
+        requireNonNull(fragment);
+        Collection<T> candidates = texts.keySet();
+        if (fragment.length() >= TRIGRAM_LENGTH) {
+            for (String trigram : trigramsOf(fragment)) {
+                Set<T> itemsWithTrigram = postings.get(trigram);
+                if (itemsWithTrigram == null) {
+                    return new HashSet<>();
+                }
+                if (itemsWithTrigram.size() < candidates.size()) {
+                    candidates = itemsWithTrigram;
+                }
+            }
+        }
+
+        Set<T> result = new HashSet<>();
+        for (T candidate : candidates) {
+            if (texts.get(candidate).contains(fragment)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of distinct trigrams in the index.
+     */
+    public int size() {
+        return postings.size();
+    }
+
+    /**
+     * Returns the number of times items are kept under the trigrams of the index, which is at most the length of
+     * the text of each item.
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    private void removePostings(T item, String text) {
+        for (String trigram : trigramsOf(text)) {
+            Set<T> itemsWithTrigram = postings.get(trigram);
+            if (itemsWithTrigram == null || !itemsWithTrigram.remove(item)) {
+                continue;
+            }
+            entryCount--;
+            if (itemsWithTrigram.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    private static Set<String> trigramsOf(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the words of a text to the items the text belongs to.
+ * Words are matched ignoring case, in the same way as {@link String#equalsIgnoreCase(String)}, so that looking up a
+ * word finds exactly the items that {@code StringUtil#containsWordIgnoreCase} would match.
+ *
+ * @param <T> the type of the indexed items.
+ */
+public class TokenIndex<T> {
+
+    private static final String WHITESPACE = "\\s+";
+
+    private final Map<String, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Indexes {@code item} under every word of {@code text}.
+     */
+    public void add(T item, String text) {
+        requireNonNull(item);
+        for (String token : tokensOf(text)) {
+            postings.computeIfAbsent(token, unused -> new HashSet<>()).add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item} from under every word of {@code text}, which must be the text it was added with.
+     */
+    public void remove(T item, String text) {
+        requireNonNull(item);
+        for (String token : tokensOf(text)) {
+            Set<T> items = postings.get(token);
+            if (items == null) {
+                continue;
+            }
+            items.remove(item);
+            if (items.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the number of distinct words in the index.
+     */
+    public int size() {
+        return postings.size();
+    }
+
+    /**
+     * Returns the items whose text contains the given word, ignoring case.
+     */
+    public Set<T> get(String word) {
+        requireNonNull(word);
+        Set<T> items = postings.get(normalise(word.trim()));
+        return items == null ? Collections.emptySet() : Collections.unmodifiableSet(items);
+    }
+
+    /**
+     * Returns the items whose text contains any of the given words, ignoring case.
+     */
+    public Set<T> getAnyOf(Collection<String> words) {
+        requireNonNull(words);
+        Set<T> items = new HashSet<>();
+        for (String word : words) {
+            items.addAll(get(word));
+        }
+        return items;
+    }
+
+    private static Set<String> tokensOf(String text) {
+        requireNonNull(text);
+        Set<String> tokens = new HashSet<>();
+        for (String word : text.split(WHITESPACE)) {
+            if (!word.isEmpty()) {
+                tokens.add(normalise(word));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns {@code word} with every character folded the way {@link String#equalsIgnoreCase(String)} compares it,
+     * so that two words are equal ignoring case exactly when their normalised forms are equal.
+     */
+    static String normalise(String word) {
+        StringBuilder normalised = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            normalised.append(Character.toLowerCase(Character.toUpperCase(word.charAt(i))));
+        }
+        return normalised.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from the trigrams (substrings of three characters) of texts to the texts containing them, for finding the
+ * texts that contain a fragment, ignoring case.
+ * A fragment can only be in the texts containing every trigram of the fragment, so only the texts under its rarest
+ * trigram are checked, in the same way as {@code text.toLowerCase().contains(fragment.toLowerCase())}.
+ * Texts are counted as they are added and removed, so that the index can be shared by several lists holding the
+ * same texts.
+ */
+public class TrigramIndex {
+
+    static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<String, IndexedText> texts = new HashMap<>();
+    private final Map<String, Set<String>> postings = new HashMap<>();
+
+    /**
+     * Adds an occurrence of {@code text} to the index.
+     */
+    public void add(String text) {
+        requireNonNull(text);
+        IndexedText indexedText = texts.get(text);
+        if (indexedText != null) {
+            indexedText.count++;
+            return;
+        }
+        indexedText = new IndexedText(text.toLowerCase());
+        texts.put(text, indexedText);
+        for (String trigram : trigramsOf(indexedText.lowerCaseText)) {
+            postings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(text);
+        }
+    }
+
+    /**
+     * Removes an occurrence of {@code text} from the index, dropping the text once it has no occurrences left.
+     */
+    public void remove(String text) {
+        requireNonNull(text);
+        IndexedText indexedText = texts.get(text);
+        if (indexedText == null) {
+            return;
+        }
+        indexedText.count--;
+        if (indexedText.count > 0) {
+            return;
+        }
+        texts.remove(text);
+        for (String trigram : trigramsOf(indexedText.lowerCaseText)) {
+            Set<String> textsWithTrigram = postings.get(trigram);
+            textsWithTrigram.remove(text);
+            if (textsWithTrigram.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the texts in the index that contain {@code fragment}, ignoring case.
+     */
+    public Set<String> getTextsContaining(String fragment) {
+        requireNonNull(fragment);
+        String lowerCaseFragment = fragment.toLowerCase();
+        Set<String> candidates = texts.keySet();
+        if (lowerCaseFragment.length() >= TRIGRAM_LENGTH) {
+            for (String trigram : trigramsOf(lowerCaseFragment)) {
+                Set<String> textsWithTrigram = postings.get(trigram);
+                if (textsWithTrigram == null) {
+                    return new HashSet<>();
+                }
+                if (textsWithTrigram.size() < candidates.size()) {
+                    candidates = textsWithTrigram;
+                }
+            }
+        }
+
+        Set<String> result = new HashSet<>();
+        for (String candidate : candidates) {
+            if (texts.get(candidate).lowerCaseText.contains(lowerCaseFragment)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of distinct trigrams in the index.
+     */
+    public int size() {
+        return postings.size();
+    }
+
+    private static Set<String> trigramsOf(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * A text in the index, with the number of times it has been added.
+     */
+    private static class IndexedText {
+        private final String lowerCaseText;
+        private int count = 1;
+
+        IndexedText(String lowerCaseText) {
+            this.lowerCaseText = lowerCaseText;
+        }
+    }
+}
@@ -13,8 +13,13 @@ public class Size {
 
     public static final String VALIDATION_REGEX = "([1-9]\\d{2,4})";
 
+    private static final int UNKNOWN_SQUARE_FEET = -1;
+
     public final String value;
 
+    /** The size in square feet, or {@code UNKNOWN_SQUARE_FEET} if the size is not known. */
+    private final int squareFeet;
+
     /**
      * Constructs a {@code Size}.
      *
@@ -23,30 +28,47 @@ public class Size {
     public Size(String size) {
         if (size == null || size.isEmpty() || size.equals("N/A") || size.equals("-")) {
             this.value = "-";
+            this.squareFeet = UNKNOWN_SQUARE_FEET;
         } else {
             checkArgument(isValidSize(size), MESSAGE_CONSTRAINTS);
             this.value = size;
+            this.squareFeet = Integer.parseInt(size);
         }
     }
 
+    /**
+     * Returns true if the size is known.
+     */
+    public boolean isKnown() {
+        return squareFeet != UNKNOWN_SQUARE_FEET;
+    }
+
+    /**
+     * Returns the size in square feet. The size must be known.
+     */
+    public int getSquareFeet() {
+        assert isKnown();
+        return squareFeet;
+    }
+
     /**
      * Returns true if the given size is more than this size.
      */
     public boolean isBiggerThan(Size other) {
-        if (this.value.equals("-") || other.value.equals("-")) {
+        if (!isKnown() || !other.isKnown()) {
             return false;
         }
-        return Integer.parseInt(this.value) > Integer.parseInt(other.value);
+        return squareFeet > other.squareFeet;
     }
 
     /**
      * Returns true if the given size is less than this size.
      */
     public boolean isSmallerThan(Size other) {
-        if (this.value.equals("-") || other.value.equals("-")) {
+        if (!isKnown() || !other.isKnown()) {
             return false;
         }
-        return Integer.parseInt(this.value) < Integer.parseInt(other.value);
+        return squareFeet < other.squareFeet;
     }
 
     /**
@@ -3,11 +3,25 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ListChange;
+import seedu.address.model.ListChangeLog;
+import seedu.address.model.index.SortedLongIndex;
+import seedu.address.model.index.TokenIndex;
+import seedu.address.model.index.TrigramIndex;
 import seedu.address.model.property.exceptions.DuplicatePropertyException;
 import seedu.address.model.property.exceptions.PropertyNotFoundException;
 
@@ -18,6 +32,12 @@ import seedu.address.model.property.exceptions.PropertyNotFoundException;
  * added or updated is unique in terms of identity in the UniquePropertyList. However, the removal of a property uses
  * Property#equals(Object) so as to ensure that the property with exactly the same fields will be removed.
  *
+ * The list keeps an inverted index from the words in property names to the properties, for keyword searches, and
+ * indexes of the properties sorted by price and by size, for range searches. Properties without a known size are kept
+ * apart from the size index. Property addresses are indexed by trigram, for address fragment searches. The names of
+ * the properties are hashed so that duplicate checks do not need to scan the whole list.
+ * The indexes are updated before the list itself, so that listeners of the list find them up to date.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Property#isSameProperty(Property)
@@ -27,13 +47,86 @@ public class UniquePropertyList implements Iterable<Property> {
     private final ObservableList<Property> internalList = FXCollections.observableArrayList();
     private final ObservableList<Property> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<PropertyName> names = new HashSet<>();
+    private final TokenIndex<Property> nameTokens = new TokenIndex<>();
+    private final SortedLongIndex<Property> priceIndex =
+            new SortedLongIndex<>(property -> property.getPrice().value);
+    private final SortedLongIndex<Property> sizeIndex =
+            new SortedLongIndex<>(property -> property.getSize().get().getSquareFeet());
+    private final Set<Property> propertiesWithoutSize = new HashSet<>();
+    private final TrigramIndex addressIndex;
+    private final Map<String, Set<Property>> propertiesByAddress = new HashMap<>();
+    private long modificationCount;
+    private final ListChangeLog<Property> changeLog = new ListChangeLog<>();
+
+    /**
+     * Creates an empty list.
+     */
+    public UniquePropertyList() {
+        this(new TrigramIndex());
+    }
+
+    /**
+     * Creates an empty list that indexes the addresses of its properties in {@code addressIndex}, which may be
+     * shared with other lists.
+     */
+    public UniquePropertyList(TrigramIndex addressIndex) {
+        requireNonNull(addressIndex);
+        this.addressIndex = addressIndex;
+    }
 
     /**
      * Returns true if the list contains an equivalent property as the given argument.
      */
     public boolean contains(Property toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProperty);
+        return names.contains(toCheck.getFullName());
+    }
+
+    /**
+     * Returns the properties whose name contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Property> getPropertiesWithNameContainingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return nameTokens.getAnyOf(keywords);
+    }
+
+    /**
+     * Returns the properties whose price is at least {@code min} and at most {@code max}.
+     */
+    public Set<Property> getPropertiesWithPriceInRange(long min, long max) {
+        return priceIndex.getInRange(min, max);
+    }
+
+    /**
+     * Returns the properties whose size in square feet is at least {@code min} and at most {@code max}.
+     * Properties without a known size are never returned.
+     */
+    public Set<Property> getPropertiesWithSizeInRange(long min, long max) {
+        return sizeIndex.getInRange(min, max);
+    }
+
+    /**
+     * Returns the properties without a known size.
+     */
+    public Set<Property> getPropertiesWithoutSize() {
+        return Collections.unmodifiableSet(propertiesWithoutSize);
+    }
+
+    /**
+     * Returns the properties whose address contains {@code fragment}, ignoring case.
+     */
+    public Set<Property> getPropertiesWithAddressContaining(String fragment) {
+        requireNonNull(fragment);
+        Set<Property> properties = new HashSet<>();
+        for (String address : addressIndex.getTextsContaining(fragment)) {
+            // the address index may be shared, so some of its addresses belong to no property
+            Set<Property> propertiesWithAddress = propertiesByAddress.get(address);
+            if (propertiesWithAddress != null) {
+                properties.addAll(propertiesWithAddress);
+            }
+        }
+        return properties;
     }
 
     /**
@@ -45,6 +138,9 @@ public class UniquePropertyList implements Iterable<Property> {
         if (contains(toAdd)) {
             throw new DuplicatePropertyException();
         }
+        addToIndexes(toAdd);
+        modificationCount++;
+        changeLog.record(internalList.size(), 0, List.of(toAdd));
         internalList.add(toAdd);
     }
 
@@ -65,22 +161,79 @@ public class UniquePropertyList implements Iterable<Property> {
             throw new DuplicatePropertyException();
         }
 
+        removeFromIndexes(target);
+        addToIndexes(editedProperty);
+        modificationCount++;
+        changeLog.record(index, 1, List.of(editedProperty));
         internalList.set(index, editedProperty);
     }
 
+    /**
+     * Replaces each property that is a key of {@code replacements} with the property it maps to.
+     * Every key must exist in the list. The property names after the replacements must be unique. Both are checked
+     * before any property is replaced, so the list is unchanged if either check fails.
+     * Only the index entries of the replaced properties are updated, so the cost grows with the number of
+     * replacements rather than with the size of the list, apart from a single pass to locate the replaced properties.
+     */
+    public void replaceAll(Map<Property, Property> replacements) {
+        requireNonNull(replacements);
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        Map<Property, Integer> positions = positionsOf(replacements.keySet());
+        checkUniqueAfterReplacing(replacements);
+
+        replacements.keySet().forEach(this::removeFromIndexes);
+        replacements.values().forEach(this::addToIndexes);
+        modificationCount++;
+        replacements.forEach((target, editedProperty) -> {
+            changeLog.record(positions.get(target), 1, List.of(editedProperty));
+            internalList.set(positions.get(target), editedProperty);
+        });
+    }
+
+    /**
+     * Checks that the property names would still be unique after replacing each property that is a key of
+     * {@code replacements} with the property it maps to. The list is not changed.
+     *
+     * @throws DuplicatePropertyException if two properties would share a name.
+     */
+    public void checkUniqueAfterReplacing(Map<Property, Property> replacements) {
+        requireNonNull(replacements);
+        Set<PropertyName> replacedNames = new HashSet<>();
+        replacements.keySet().forEach(target -> replacedNames.add(target.getFullName()));
+        Set<PropertyName> newNames = new HashSet<>();
+        for (Property editedProperty : replacements.values()) {
+            PropertyName name = editedProperty.getFullName();
+            boolean isTaken = names.contains(name) && !replacedNames.contains(name);
+            if (isTaken || !newNames.add(name)) {
+                throw new DuplicatePropertyException();
+            }
+        }
+    }
+
     /**
      * Removes the equivalent property from the list.
      * The property must exist in the list.
      */
     public void remove(Property toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PropertyNotFoundException();
         }
+        removeFromIndexes(toRemove);
+        modificationCount++;
+        changeLog.record(index, 1, List.of());
+        internalList.remove(index);
     }
 
     public void setProperties(UniquePropertyList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
+        modificationCount++;
+        changeLog.recordReplacement();
         internalList.setAll(replacement.internalList);
     }
 
@@ -94,6 +247,9 @@ public class UniquePropertyList implements Iterable<Property> {
             throw new DuplicatePropertyException();
         }
 
+        rebuildIndexes(properties);
+        modificationCount++;
+        changeLog.recordReplacement();
         internalList.setAll(properties);
     }
 
@@ -104,6 +260,44 @@ public class UniquePropertyList implements Iterable<Property> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the number of entries in each index kept over the properties, by the name of the index.
+     */
+    public Map<String, Integer> getIndexSizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        sizes.put("nameWords", nameTokens.size());
+        sizes.put("prices", priceIndex.size());
+        sizes.put("sizes", sizeIndex.size());
+        sizes.put("addresses", propertiesByAddress.size());
+        return sizes;
+    }
+
+    /**
+     * Returns the number of times the contents of this list have been modified.
+     * The count only grows, so callers can tell whether the list has changed since they last looked at it.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the version of the contents of this list, which changes whenever the list is modified.
+     * Lists with the same version hold the same items.
+     */
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    /**
+     * Returns the changes made to this list since it was at {@code version}, or an empty {@code Optional} if they are
+     * not known.
+     *
+     * @see ListChangeLog#getChangesSince(long)
+     */
+    public Optional<List<ListChange<Property>>> getChangesSince(long version) {
+        return changeLog.getChangesSince(version);
+    }
+
     @Override
     public Iterator<Property> iterator() {
         return internalList.iterator();
@@ -133,15 +327,110 @@ public class UniquePropertyList implements Iterable<Property> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of each of {@code properties} in the list, looking through the list once.
+     *
+     * @throws PropertyNotFoundException if any of {@code properties} is not in the list.
+     */
+    private Map<Property, Integer> positionsOf(Set<Property> properties) {
+        Map<Property, Integer> positions = new HashMap<>();
+        for (int i = 0; i < internalList.size() && positions.size() < properties.size(); i++) {
+            if (properties.contains(internalList.get(i))) {
+                positions.put(internalList.get(i), i);
+            }
+        }
+        if (positions.size() < properties.size()) {
+            throw new PropertyNotFoundException();
+        }
+        return positions;
+    }
+
+    private void addToIndexes(Property property) {
+        names.add(property.getFullName());
+        nameTokens.add(property, property.getFullName().fullName);
+        priceIndex.add(property);
+        addToSizeIndex(property);
+        addToAddressIndex(property);
+    }
+
+    private void removeFromIndexes(Property property) {
+        names.remove(property.getFullName());
+        nameTokens.remove(property, property.getFullName().fullName);
+        priceIndex.remove(property);
+        removeFromSizeIndex(property);
+        removeFromAddressIndex(property);
+    }
+
+    private void rebuildIndexes(List<Property> properties) {
+        names.clear();
+        nameTokens.clear();
+        for (Property property : properties) {
+            names.add(property.getFullName());
+            nameTokens.add(property, property.getFullName().fullName);
+        }
+        priceIndex.setAll(properties);
+
+        List<Property> propertiesWithSize = new ArrayList<>();
+        propertiesWithoutSize.clear();
+        for (Property property : properties) {
+            if (hasKnownSize(property)) {
+                propertiesWithSize.add(property);
+            } else {
+                propertiesWithoutSize.add(property);
+            }
+        }
+        sizeIndex.setAll(propertiesWithSize);
+
+        // the address index may be shared, so only the addresses of the replaced properties are removed from it
+        internalList.forEach(this::removeFromAddressIndex);
+        properties.forEach(this::addToAddressIndex);
+    }
+
+    private void addToAddressIndex(Property property) {
+        String address = property.getAddress().value;
+        addressIndex.add(address);
+        propertiesByAddress.computeIfAbsent(address, unused -> new HashSet<>()).add(property);
+    }
+
+    private void removeFromAddressIndex(Property property) {
+        String address = property.getAddress().value;
+        addressIndex.remove(address);
+        Set<Property> propertiesWithAddress = propertiesByAddress.get(address);
+        propertiesWithAddress.remove(property);
+        if (propertiesWithAddress.isEmpty()) {
+            propertiesByAddress.remove(address);
+        }
+    }
+
+    private void addToSizeIndex(Property property) {
+        if (hasKnownSize(property)) {
+            sizeIndex.add(property);
+        } else {
+            propertiesWithoutSize.add(property);
+        }
+    }
+
+    private void removeFromSizeIndex(Property property) {
+        if (hasKnownSize(property)) {
+            sizeIndex.remove(property);
+        } else {
+            propertiesWithoutSize.remove(property);
+        }
+    }
+
+    private static boolean hasKnownSize(Property property) {
+        return property.getSize().map(Size::isKnown).orElse(false);
+    }
+
     /**
      * Returns true if {@code properties} contains only unique properties.
+     * Properties are unique if no two of them share a name.
      */
-    private boolean propertiesAreUnique(List<Property> properties) {
-        for (int i = 0; i < properties.size() - 1; i++) {
-            for (int j = i + 1; j < properties.size(); j++) {
-                if (properties.get(i).isSameProperty(properties.get(j))) {
-                    return false;
-                }
+    public static boolean propertiesAreUnique(List<Property> properties) {
+        Set<PropertyName> names = new HashSet<>();
+        for (Property property : properties) {
+            if (!names.add(property.getFullName())) {
+                return false;
             }
         }
         return true;
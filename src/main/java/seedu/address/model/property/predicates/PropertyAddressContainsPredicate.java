@@ -15,9 +15,25 @@ public class PropertyAddressContainsPredicate extends PropertyPredicate<String>
         super(address);
     }
 
+    /**
+     * Returns the fragment that addresses must contain.
+     */
+    public String getAddress() {
+        return value;
+    }
+
     @Override
     public boolean test(Property property) {
         return property.getAddress().toString().toLowerCase().contains(value.toLowerCase());
     }
-}
 
+    @Override
+    public double getEstimatedCost() {
+        return SUBSTRING_MATCH_COST;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return SUBSTRING_MATCH_SELECTIVITY;
+    }
+}
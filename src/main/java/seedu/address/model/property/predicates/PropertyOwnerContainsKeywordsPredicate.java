@@ -2,14 +2,17 @@ package seedu.address.model.property.predicates;
 
 import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.Keyword;
 import seedu.address.model.property.Property;
+import seedu.address.model.query.QueryTerm;
 
 /**
  * Tests that a {@code Client}'s {@code Name} matches any of the keywords given.
  */
 public class PropertyOwnerContainsKeywordsPredicate extends PropertyPredicate<List<String>> {
 
+    private final List<Keyword> ownerKeywords;
+
     /**
      * Constructs a {@code ClientNameContainsKeywordsPredicate}.
      *
@@ -17,6 +20,7 @@ public class PropertyOwnerContainsKeywordsPredicate extends PropertyPredicate<Li
      */
     public PropertyOwnerContainsKeywordsPredicate(List<String> keywords) {
         super(keywords);
+        ownerKeywords = Keyword.of(keywords);
     }
 
     /**
@@ -27,7 +31,16 @@ public class PropertyOwnerContainsKeywordsPredicate extends PropertyPredicate<Li
      */
     @Override
     public boolean test(Property property) {
-        return value.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(property.getOwner().fullName, keyword));
+        return Keyword.anyIsWordIn(ownerKeywords, property.getOwner().fullName);
+    }
+
+    @Override
+    public double getEstimatedCost() {
+        return WORD_MATCH_COST * ownerKeywords.size();
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return QueryTerm.getWordMatchSelectivity(ownerKeywords.size());
     }
 }
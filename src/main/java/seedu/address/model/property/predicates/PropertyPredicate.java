@@ -3,11 +3,12 @@ package seedu.address.model.property.predicates;
 import java.util.function.Predicate;
 
 import seedu.address.model.property.Property;
+import seedu.address.model.query.QueryTerm;
 
 /**
  * Generic class for predicates that are used to filter clients.
  */
-public abstract class PropertyPredicate<T> implements Predicate<Property> {
+public abstract class PropertyPredicate<T> implements Predicate<Property>, QueryTerm {
     protected final T value;
 
     public PropertyPredicate(T value) {
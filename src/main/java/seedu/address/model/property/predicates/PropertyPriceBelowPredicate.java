@@ -12,8 +12,22 @@ public class PropertyPriceBelowPredicate extends PropertyPredicate<Price> {
         super(price);
     }
 
+    public Price getPrice() {
+        return value;
+    }
+
     @Override
     public boolean test(Property property) {
         return property.getPrice().isLessThan(value);
     }
+
+    @Override
+    public double getEstimatedCost() {
+        return COMPARISON_COST;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return RANGE_SELECTIVITY;
+    }
 }
@@ -12,9 +12,26 @@ public class PropertySizeAbovePredicate extends PropertyPredicate<Size> {
         super(size);
     }
 
+    /**
+     * Returns the smallest size in square feet that a property passing this predicate can have.
+     */
+    public long getMinimumSquareFeet() {
+        return value.isKnown() ? value.getSquareFeet() + 1 : Long.MAX_VALUE;
+    }
+
     @Override
     public boolean test(Property property) {
         return property.getSize().map(size -> size.isBiggerThan(value))
                 .orElse(false);
     }
+
+    @Override
+    public double getEstimatedCost() {
+        return COMPARISON_COST;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return RANGE_SELECTIVITY;
+    }
 }
@@ -12,9 +12,26 @@ public class PropertySizeBelowPredicate extends PropertyPredicate<Size> {
         super(size);
     }
 
+    /**
+     * Returns the largest size in square feet that a property passing this predicate can have.
+     */
+    public long getMaximumSquareFeet() {
+        return value.isKnown() ? value.getSquareFeet() - 1 : Long.MIN_VALUE;
+    }
+
     @Override
     public boolean test(Property property) {
         return property.getSize().map(size -> size.isSmallerThan(value))
                 .orElse(false);
     }
+
+    @Override
+    public double getEstimatedCost() {
+        return COMPARISON_COST;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return RANGE_SELECTIVITY;
+    }
 }
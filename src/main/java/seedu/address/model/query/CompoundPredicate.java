@@ -0,0 +1,115 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A query made of terms that an item must either all pass or pass any of.
+ * Unlike predicates combined with {@link Predicate#and(Predicate)} and {@link Predicate#or(Predicate)}, the terms
+ * can be examined, so that a {@link QueryPlanner} can reorder them and answer some of them from an index.
+ *
+ * @param <T> the type of the tested items.
+ */
+public class CompoundPredicate<T> implements Predicate<T>, QueryTerm {
+
+    private final boolean isConjunction;
+    private final List<Predicate<T>> terms;
+
+    private CompoundPredicate(boolean isConjunction, List<? extends Predicate<T>> terms) {
+        requireNonNull(terms);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("A compound predicate must have at least one term");
+        }
+        this.isConjunction = isConjunction;
+        this.terms = List.copyOf(terms);
+    }
+
+    /**
+     * Returns a predicate that passes items which pass all of {@code terms}, testing them in the given order.
+     */
+    public static <T> CompoundPredicate<T> allOf(List<? extends Predicate<T>> terms) {
+        return new CompoundPredicate<>(true, terms);
+    }
+
+    /**
+     * Returns a predicate that passes items which pass any of {@code terms}, testing them in the given order.
+     */
+    public static <T> CompoundPredicate<T> anyOf(List<? extends Predicate<T>> terms) {
+        return new CompoundPredicate<>(false, terms);
+    }
+
+    /**
+     * Returns true if items must pass all of the terms, or false if they must pass any of them.
+     */
+    public boolean isConjunction() {
+        return isConjunction;
+    }
+
+    public List<Predicate<T>> getTerms() {
+        return terms;
+    }
+
+    @Override
+    public boolean test(T item) {
+        for (Predicate<T> term : terms) {
+            if (term.test(item) != isConjunction) {
+                return !isConjunction;
+            }
+        }
+        return isConjunction;
+    }
+
+    @Override
+    public double getEstimatedCost() {
+        // terms after the first are only tested if the earlier terms did not decide the result
+        double cost = 0;
+        double probabilityTested = 1;
+        for (Predicate<T> term : terms) {
+            cost += probabilityTested * QueryPlanner.getEstimatedCost(term);
+            double selectivity = QueryPlanner.getEstimatedSelectivity(term);
+            probabilityTested *= isConjunction ? selectivity : 1 - selectivity;
+        }
+        return cost;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        double probabilityUndecided = 1;
+        for (Predicate<T> term : terms) {
+            double selectivity = QueryPlanner.getEstimatedSelectivity(term);
+            probabilityUndecided *= isConjunction ? selectivity : 1 - selectivity;
+        }
+        return isConjunction ? probabilityUndecided : 1 - probabilityUndecided;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompoundPredicate<?> otherPredicate)) {
+            return false;
+        }
+
+        return isConjunction == otherPredicate.isConjunction
+                && terms.equals(otherPredicate.terms);
+    }
+
+    @Override
+    public int hashCode() {
+        return terms.hashCode() * 31 + Boolean.hashCode(isConjunction);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add(isConjunction ? "allOf" : "anyOf", terms)
+                .toString();
+    }
+}
@@ -0,0 +1,284 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import seedu.address.model.index.CandidateSetPredicate;
+
+/**
+ * Turns a query into an equivalent predicate that is cheaper to test on every item of a list.
+ * Terms that an index can answer are looked up in the index once, and the candidates they produce are checked
+ * before the remaining terms. The remaining terms are reordered so that the terms most likely to decide the result
+ * for the least cost are tested first.
+ *
+ * @param <T> the type of the queried items.
+ */
+public class QueryPlanner<T> {
+
+    private final LongSupplier modificationCount;
+    private final Map<Class<?>, Function<Predicate<T>, Set<T>>> indexes = new LinkedHashMap<>();
+    private final List<RangeIndex<T>> rangeIndexes = new ArrayList<>();
+
+    /**
+     * Creates a {@code QueryPlanner} without any index.
+     *
+     * @param modificationCount returns a count that changes whenever the queried items or the indexes change.
+     */
+    public QueryPlanner(LongSupplier modificationCount) {
+        requireNonNull(modificationCount);
+        this.modificationCount = modificationCount;
+    }
+
+    /**
+     * Makes terms of type {@code termType} be answered by {@code lookup}, which must return exactly the items that
+     * pass the given term.
+     *
+     * @return this planner.
+     */
+    public <P extends Predicate<T>> QueryPlanner<T> addIndex(Class<P> termType, Function<? super P, Set<T>> lookup) {
+        requireNonNull(termType);
+        requireNonNull(lookup);
+        indexes.put(termType, term -> lookup.apply(termType.cast(term)));
+        return this;
+    }
+
+    /**
+     * Makes terms of type {@code lowerBoundType} and {@code upperBoundType} be answered by {@code lookup}.
+     * {@code lowerBound} must return the smallest key that an item passing the given lower bound term can have, and
+     * {@code upperBound} the largest key that an item passing the given upper bound term can have. Bounds that all
+     * items must pass are combined into a single range looked up once.
+     *
+     * @return this planner.
+     */
+    public <L extends Predicate<T>, U extends Predicate<T>> QueryPlanner<T> addRangeIndex(
+            Class<L> lowerBoundType, ToLongFunction<? super L> lowerBound,
+            Class<U> upperBoundType, ToLongFunction<? super U> upperBound, RangeLookup<T> lookup) {
+        requireAllNonNull(lowerBoundType, lowerBound, upperBoundType, upperBound, lookup);
+        ToLongFunction<Predicate<T>> min = term -> lowerBound.applyAsLong(lowerBoundType.cast(term));
+        ToLongFunction<Predicate<T>> max = term -> upperBound.applyAsLong(upperBoundType.cast(term));
+        rangeIndexes.add(new RangeIndex<>(lowerBoundType, min, upperBoundType, max, lookup));
+        return this;
+    }
+
+    /**
+     * Returns a predicate that passes the same items as {@code query}.
+     */
+    public Predicate<T> plan(Predicate<T> query) {
+        requireNonNull(query);
+        if (query instanceof CompoundPredicate<T> compoundQuery) {
+            return compoundQuery.isConjunction()
+                    ? planConjunction(compoundQuery.getTerms())
+                    : planDisjunction(compoundQuery.getTerms());
+        }
+        return planConjunction(List.of(query));
+    }
+
+    private Predicate<T> planConjunction(List<Predicate<T>> terms) {
+        List<Predicate<T>> indexedTerms = new ArrayList<>();
+        List<Supplier<Set<T>>> lookups = new ArrayList<>();
+        List<Predicate<T>> residualTerms = extractIndexedTerms(terms, true, indexedTerms, lookups);
+
+        // an item is most likely to be rejected early if the terms that reject the most per unit of cost come first
+        residualTerms.sort(Comparator.comparingDouble(term ->
+                (getEstimatedSelectivity(term) - 1) / getEstimatedCost(term)));
+
+        List<Predicate<T>> plannedTerms = new ArrayList<>();
+        if (!indexedTerms.isEmpty()) {
+            plannedTerms.add(new CandidateSetPredicate<>(combine(indexedTerms, true), () ->
+                    intersectCandidates(lookups), modificationCount));
+        }
+        plannedTerms.addAll(residualTerms);
+        return combine(plannedTerms, true);
+    }
+
+    private Predicate<T> planDisjunction(List<Predicate<T>> terms) {
+        List<Predicate<T>> indexedTerms = new ArrayList<>();
+        List<Supplier<Set<T>>> lookups = new ArrayList<>();
+        List<Predicate<T>> residualTerms = extractIndexedTerms(terms, false, indexedTerms, lookups);
+
+        // an item is most likely to be accepted early if the terms that accept the most per unit of cost come first
+        residualTerms.sort(Comparator.comparingDouble(term ->
+                -getEstimatedSelectivity(term) / getEstimatedCost(term)));
+
+        List<Predicate<T>> plannedTerms = new ArrayList<>();
+        if (!indexedTerms.isEmpty()) {
+            plannedTerms.add(new CandidateSetPredicate<>(combine(indexedTerms, false), () ->
+                    uniteCandidates(lookups), modificationCount));
+        }
+        plannedTerms.addAll(residualTerms);
+        return combine(plannedTerms, false);
+    }
+
+    /**
+     * Moves the terms of {@code terms} that an index can answer to {@code indexedTerms}, adds the lookups that answer
+     * them to {@code lookups}, and returns the remaining terms.
+     *
+     * @param isConjunction whether items must pass all of the terms, so that range bounds can be combined.
+     */
+    private List<Predicate<T>> extractIndexedTerms(List<Predicate<T>> terms, boolean isConjunction,
+                                                   List<Predicate<T>> indexedTerms,
+                                                   List<Supplier<Set<T>>> lookups) {
+        List<Predicate<T>> residualTerms = new ArrayList<>();
+        List<List<Predicate<T>>> rangeTerms = new ArrayList<>();
+        for (int i = 0; i < rangeIndexes.size(); i++) {
+            rangeTerms.add(new ArrayList<>());
+        }
+
+        for (Predicate<T> term : terms) {
+            int rangeIndex = findRangeIndex(term);
+            Function<Predicate<T>, Set<T>> index = findIndex(term);
+            if (rangeIndex != -1) {
+                rangeTerms.get(rangeIndex).add(term);
+            } else if (index != null) {
+                indexedTerms.add(term);
+                lookups.add(() -> index.apply(term));
+            } else {
+                residualTerms.add(term);
+            }
+        }
+
+        for (int i = 0; i < rangeIndexes.size(); i++) {
+            RangeIndex<T> rangeIndex = rangeIndexes.get(i);
+            List<Predicate<T>> bounds = rangeTerms.get(i);
+            indexedTerms.addAll(bounds);
+            if (isConjunction && !bounds.isEmpty()) {
+                lookups.add(rangeIndex.lookUp(bounds));
+            } else {
+                for (Predicate<T> bound : bounds) {
+                    lookups.add(rangeIndex.lookUp(List.of(bound)));
+                }
+            }
+        }
+        return residualTerms;
+    }
+
+    private int findRangeIndex(Predicate<T> term) {
+        for (int i = 0; i < rangeIndexes.size(); i++) {
+            if (rangeIndexes.get(i).isBound(term)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Function<Predicate<T>, Set<T>> findIndex(Predicate<T> term) {
+        for (Map.Entry<Class<?>, Function<Predicate<T>, Set<T>>> index : indexes.entrySet()) {
+            if (index.getKey().isInstance(term)) {
+                return index.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static <T> Set<T> intersectCandidates(List<Supplier<Set<T>>> lookups) {
+        List<Set<T>> candidateSets = new ArrayList<>(lookups.size());
+        for (Supplier<Set<T>> lookup : lookups) {
+            candidateSets.add(lookup.get());
+        }
+        // start from the smallest set so that the fewest candidates are checked against the other sets
+        candidateSets.sort(Comparator.comparingInt(Set::size));
+        Set<T> candidates = new HashSet<>(candidateSets.get(0));
+        for (int i = 1; i < candidateSets.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(candidateSets.get(i));
+        }
+        return candidates;
+    }
+
+    private static <T> Set<T> uniteCandidates(List<Supplier<Set<T>>> lookups) {
+        Set<T> candidates = new HashSet<>();
+        for (Supplier<Set<T>> lookup : lookups) {
+            candidates.addAll(lookup.get());
+        }
+        return candidates;
+    }
+
+    private static <T> Predicate<T> combine(List<Predicate<T>> terms, boolean isConjunction) {
+        if (terms.size() == 1) {
+            return terms.get(0);
+        }
+        return isConjunction ? CompoundPredicate.allOf(terms) : CompoundPredicate.anyOf(terms);
+    }
+
+    /**
+     * Returns the estimated cost of testing one item with {@code predicate}.
+     */
+    static double getEstimatedCost(Predicate<?> predicate) {
+        return predicate instanceof QueryTerm term ? term.getEstimatedCost() : QueryTerm.UNKNOWN_COST;
+    }
+
+    /**
+     * Returns the estimated fraction of items that pass {@code predicate}.
+     */
+    static double getEstimatedSelectivity(Predicate<?> predicate) {
+        return predicate instanceof QueryTerm term ? term.getEstimatedSelectivity() : QueryTerm.UNKNOWN_SELECTIVITY;
+    }
+
+    /**
+     * Finds the items whose key is in a range.
+     *
+     * @param <T> the type of the items.
+     */
+    @FunctionalInterface
+    public interface RangeLookup<T> {
+        /**
+         * Returns the items whose key is at least {@code min} and at most {@code max}.
+         */
+        Set<T> getInRange(long min, long max);
+    }
+
+    /**
+     * An index that answers terms bounding a key from below or above.
+     */
+    private static class RangeIndex<T> {
+        private final Class<?> lowerBoundType;
+        private final ToLongFunction<Predicate<T>> min;
+        private final Class<?> upperBoundType;
+        private final ToLongFunction<Predicate<T>> max;
+        private final RangeLookup<T> lookup;
+
+        RangeIndex(Class<?> lowerBoundType, ToLongFunction<Predicate<T>> min, Class<?> upperBoundType,
+                   ToLongFunction<Predicate<T>> max, RangeLookup<T> lookup) {
+            this.lowerBoundType = lowerBoundType;
+            this.min = min;
+            this.upperBoundType = upperBoundType;
+            this.max = max;
+            this.lookup = lookup;
+        }
+
+        boolean isBound(Predicate<T> term) {
+            return lowerBoundType.isInstance(term) || upperBoundType.isInstance(term);
+        }
+
+        /**
+         * Returns a lookup of the items that pass all of {@code bounds}.
+         */
+        Supplier<Set<T>> lookUp(List<Predicate<T>> bounds) {
+            long rangeMin = Long.MIN_VALUE;
+            long rangeMax = Long.MAX_VALUE;
+            for (Predicate<T> bound : bounds) {
+                if (lowerBoundType.isInstance(bound)) {
+                    rangeMin = Math.max(rangeMin, min.applyAsLong(bound));
+                }
+                if (upperBoundType.isInstance(bound)) {
+                    rangeMax = Math.min(rangeMax, max.applyAsLong(bound));
+                }
+            }
+            long finalMin = rangeMin;
+            long finalMax = rangeMax;
+            return () -> lookup.getInRange(finalMin, finalMax);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.query;
+
+/**
+ * A predicate that can estimate how expensive it is to test an item and how likely an item is to pass, so that a
+ * {@link QueryPlanner} can decide in which order to test the terms of a query.
+ * The estimates only need to be right relative to each other.
+ */
+public interface QueryTerm {
+
+    /** Cost of comparing a field of an item with a value. */
+    double COMPARISON_COST = 1;
+
+    /** Cost of looking for one keyword among the words of a field. */
+    double WORD_MATCH_COST = 4;
+
+    /** Cost of looking for a string anywhere in a field. */
+    double SUBSTRING_MATCH_COST = 8;
+
+    /** Cost of a predicate that does not estimate its cost. */
+    double UNKNOWN_COST = 16;
+
+    /** Fraction of items expected to contain one given keyword. */
+    double WORD_MATCH_SELECTIVITY = 0.1;
+
+    /** Fraction of items expected to contain a given string. */
+    double SUBSTRING_MATCH_SELECTIVITY = 0.2;
+
+    /** Fraction of items expected to be on one side of a bound. */
+    double RANGE_SELECTIVITY = 0.5;
+
+    /** Fraction of items expected to pass a predicate that does not estimate its selectivity. */
+    double UNKNOWN_SELECTIVITY = 0.5;
+
+    /**
+     * Returns the estimated cost of testing one item.
+     */
+    default double getEstimatedCost() {
+        return UNKNOWN_COST;
+    }
+
+    /**
+     * Returns the estimated fraction of items that pass, between 0 and 1.
+     */
+    default double getEstimatedSelectivity() {
+        return UNKNOWN_SELECTIVITY;
+    }
+
+    /**
+     * Returns the estimated fraction of items that contain any of {@code keywordCount} keywords.
+     */
+    static double getWordMatchSelectivity(int keywordCount) {
+        return Math.min(1, keywordCount * WORD_MATCH_SELECTIVITY);
+    }
+
+    /**
+     * Returns the estimated fraction of items whose field equals one of the {@code valueCount} values it can take.
+     */
+    static double getEqualitySelectivity(int valueCount) {
+        return 1.0 / valueCount;
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Phone;
+import seedu.address.model.commons.Address;
+import seedu.address.model.commons.Price;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventType;
+import seedu.address.model.event.Note;
+import seedu.address.model.property.Description;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
+import seedu.address.model.property.Size;
+
+/**
+ * Generates large address books of realistic sample data, for measuring how the app performs as the data grows.
+ * The same seed and size always generate the same address book. Every deal and event refers to clients and
+ * properties in the address book, every property is owned by one of the clients, and every deal is between the owner
+ * of its property and another client.
+ */
+public class SampleDataGenerator {
+
+    /** The earliest date and time of the generated events. */
+    public static final LocalDateTime FIRST_EVENT_DATE_TIME = LocalDateTime.of(2025, 1, 6, 9, 0);
+
+    /** The number of minutes between the slots of consecutive events, so that no two events are at the same time. */
+    public static final int MINUTES_BETWEEN_EVENTS = 90;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling", "Siti", "Ravi", "Mei", "Jun Jie",
+        "Priya", "Ahmad", "Hui Min", "Kumar", "Nurul", "Daniel", "Grace", "Hafiz", "Jasmine"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Ng", "Wong", "Chua", "Rahman",
+        "Pillai", "Goh", "Koh", "Teo", "Lee", "Ong", "Chen", "Nair"
+    };
+    private static final String[] STREETS = {
+        "Geylang", "Serangoon Gardens", "Ang Mo Kio", "Tampines", "Aljunied", "Clementi", "Bedok North",
+        "Jurong West", "Toa Payoh", "Yishun", "Woodlands", "Bukit Batok", "Pasir Ris", "Hougang", "Queenstown"
+    };
+    private static final String[] PROPERTY_NAME_WORDS = {
+        "Maple", "Orchid", "Sunrise", "Harbour", "Parkview", "Lakeside", "Emerald", "Palm", "Riverside", "Skyline",
+        "Coral", "Jade", "Meadow", "Summit", "Willow"
+    };
+    private static final String[] PROPERTY_KINDS = {
+        "Villa", "Condominium", "Residences", "Court", "Towers", "Terrace", "Lodge", "Gardens"
+    };
+    private static final String[] DESCRIPTIONS = {
+        "Near MRT", "Corner unit", "Newly renovated", "Pool view", "High floor", "Freehold", "Near schools"
+    };
+    private static final String[] NOTES = {
+        "Bring floor plans", "Discuss pricing", "First viewing", "Sign documents", "Follow up on offer",
+        "Meet at lobby"
+    };
+
+    private final Random random;
+
+    private SampleDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns an address book with {@code size} clients, properties, deals and events generated from {@code seed}.
+     *
+     * @param size must be at least 2, so that every deal can have a buyer other than the owner of its property.
+     */
+    public static AddressBook generateAddressBook(long seed, int size) {
+        checkArgument(size >= 2, "An address book needs at least two clients to have deals");
+        return new SampleDataGenerator(seed).generate(size);
+    }
+
+    private AddressBook generate(int size) {
+        AddressBook addressBook = new AddressBook();
+        List<Client> clients = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Client client = generateClient(i);
+            clients.add(client);
+            addressBook.addClient(client);
+        }
+
+        List<Property> properties = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Property property = generateProperty(i, pick(clients).getFullName());
+            properties.add(property);
+            addressBook.addProperty(property);
+        }
+
+        for (Property property : properties) {
+            addressBook.addDeal(generateDeal(property, clients));
+        }
+
+        List<Event> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(generateEvent(i, pick(clients).getFullName(), pick(properties).getFullName()));
+        }
+        // add the events out of date order, as they would be entered over time
+        Collections.shuffle(events, random);
+        for (Event event : events) {
+            addressBook.addEvent(event);
+        }
+        return addressBook;
+    }
+
+    private Client generateClient(int id) {
+        String firstName = pick(FIRST_NAMES);
+        String lastName = pick(LAST_NAMES);
+        ClientName name = new ClientName(firstName + " " + lastName + " " + id);
+        Phone phone = new Phone(String.format("%c%07d", "689".charAt(random.nextInt(3)), id));
+        Email email = new Email(firstName.replace(' ', '.').toLowerCase() + "." + lastName.toLowerCase() + id
+                + "@example.com");
+        return new Client(name, phone, email, generateAddress());
+    }
+
+    private Property generateProperty(int id, ClientName owner) {
+        PropertyName name = new PropertyName(pick(PROPERTY_NAME_WORDS) + " " + pick(PROPERTY_KINDS) + " " + id);
+        Price price = new Price((long) (100 + random.nextInt(999_900)));
+        Optional<Size> size = random.nextInt(4) == 0
+                ? Optional.empty()
+                : Optional.of(new Size(String.valueOf(300 + random.nextInt(4_700))));
+        Optional<Description> description = random.nextBoolean()
+                ? Optional.empty()
+                : Optional.of(new Description(pick(DESCRIPTIONS)));
+        return new Property(name, generateAddress(), price, size, description, owner);
+    }
+
+    private Deal generateDeal(Property property, List<Client> clients) {
+        ClientName seller = property.getOwner();
+        ClientName buyer = pick(clients).getFullName();
+        while (buyer.equals(seller)) {
+            buyer = pick(clients).getFullName();
+        }
+        // offers are within 10% of the asking price
+        long askingPrice = property.getPrice().value;
+        long offer = askingPrice + (long) ((random.nextDouble() - 0.5) * askingPrice / 5);
+        Price price = new Price(Math.max(100, Math.min(999_999, offer)));
+        return new Deal(property.getFullName(), buyer, seller, price, pick(DealStatus.values()));
+    }
+
+    private Event generateEvent(int slot, ClientName clientName, PropertyName propertyName) {
+        LocalDateTime dateTime = FIRST_EVENT_DATE_TIME
+                .plusMinutes((long) slot * MINUTES_BETWEEN_EVENTS + random.nextInt(MINUTES_BETWEEN_EVENTS));
+        return new Event(dateTime, pick(EventType.values()), clientName, propertyName, new Note(pick(NOTES)));
+    }
+
+    private Address generateAddress() {
+        return new Address(String.format("Blk %d %s Street %d, #%02d-%02d", 1 + random.nextInt(999),
+                pick(STREETS), 1 + random.nextInt(99), 1 + random.nextInt(40), 1 + random.nextInt(99)));
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for the address book being read from a json file by {@link JsonAddressBookStorage}.
+ */
+@Name("seedu.address.AddressBookRead")
+@Label("Address Book Read")
+@Category({"REconnect", "Storage"})
+@Description("The address book read from a json file")
+@StackTrace(false)
+class AddressBookReadEvent extends jdk.jfr.Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Found")
+    private boolean isFound;
+
+    /**
+     * Ends the event and commits it with the given details, if the event is being recorded.
+     */
+    void commit(Path filePath, boolean isFound) {
+        end();
+        if (shouldCommit()) {
+            this.filePath = filePath.toString();
+            this.isFound = isFound;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for the address book being written to a json file by {@link JsonAddressBookStorage}.
+ */
+@Name("seedu.address.AddressBookSave")
+@Label("Address Book Save")
+@Category({"REconnect", "Storage"})
+@Description("The address book written to a json file")
+@StackTrace(false)
+class AddressBookSaveEvent extends jdk.jfr.Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    /**
+     * Ends the event and commits it with the given details, if the event is being recorded.
+     */
+    void commit(Path filePath, long bytesWritten) {
+        end();
+        if (shouldCommit()) {
+            this.filePath = filePath.toString();
+            this.bytesWritten = bytesWritten;
+            commit();
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -42,4 +45,41 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but also passes how long writing the address book
+     * took, in nanoseconds, to {@code writeTimeConsumer} once it is written.
+     * Storages that write in the background call {@code writeTimeConsumer} from the thread that writes, and do not
+     * call it if the write fails.
+     */
+    default void saveAddressBook(ReadOnlyAddressBook addressBook, LongConsumer writeTimeConsumer) throws IOException {
+        requireNonNull(writeTimeConsumer);
+        long saveStart = System.nanoTime();
+        saveAddressBook(addressBook);
+        writeTimeConsumer.accept(System.nanoTime() - saveStart);
+    }
+
+    /**
+     * Throws the failure of an earlier save that has not been reported yet.
+     * Storages that only return from {@link #saveAddressBook(ReadOnlyAddressBook)} once the data is written report
+     * failures when saving, so they have nothing to report here.
+     *
+     * @throws IOException if an earlier save failed after it returned.
+     */
+    default void checkAddressBookSaved() throws IOException {}
+
+    /**
+     * Waits for all earlier saves to be written.
+     *
+     * @throws IOException if an earlier save failed and the failure has not been reported yet.
+     */
+    default void flushAddressBook() throws IOException {}
+
+    /**
+     * Returns the number of bytes this storage has written so far, for monitoring.
+     * Storages that do not count the bytes they write return 0.
+     */
+    default long getBytesWritten() {
+        return 0;
+    }
+
 }
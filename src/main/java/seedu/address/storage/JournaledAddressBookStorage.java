@@ -0,0 +1,396 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.ReadOnlyAddressBook.UNKNOWN_VERSION;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+
+/**
+ * An {@code AddressBookStorage} that keeps an append-only journal of changes alongside the data file written by
+ * another {@code AddressBookStorage}.
+ * Each save appends one compact entry with the changes that the lists of the address book recorded since the
+ * previous save, so the cost of a save depends on the size of the change rather than on the size of the address book.
+ * Once the journal holds enough entries, or the changes since the previous save are not known, it is compacted by
+ * saving the whole address book to the data file and starting a new journal.
+ * Reading the address book replays the journal on top of the data file. If an entry cannot be replayed, the entries
+ * replayed before it are kept, and the journal is moved aside for recovery rather than compacted away.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final String BAD_JOURNAL_FILE_EXTENSION = ".bad-";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    private SavedState lastSaved;
+    private int journalEntryCount;
+    private volatile long journalBytesWritten;
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts the journal into the data file of
+     * {@code snapshotStorage} once it holds {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        Path filePath = snapshotStorage.getAddressBookFilePath();
+        journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading from the data file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data file failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshot;
+        }
+
+        // without a known saved state, the next save compacts and discards any journal left behind
+        lastSaved = null;
+        if (snapshot.isEmpty()) {
+            return snapshot;
+        }
+        if (!Files.exists(journalFilePath)) {
+            lastSaved = new SavedState(snapshot.get());
+            journalEntryCount = 0;
+            return snapshot;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            setAsideJournal();
+            return snapshot;
+        }
+
+        if (lines.isEmpty() || !readHeader(lines.get(0)).map(this::isCurrentHeader).orElse(false)) {
+            logger.warning("Journal file " + journalFilePath + " does not match the data file and is ignored.");
+            return snapshot;
+        }
+
+        List<String> entries = lines.subList(1, lines.size());
+        ReplayedLists replayed = new ReplayedLists(snapshot.get());
+        int replayedEntryCount = replay(replayed, entries);
+        boolean isLastEntryIncomplete = replayedEntryCount == entries.size() - 1
+                && readEntry(entries.get(replayedEntryCount)).isEmpty();
+        if (isLastEntryIncomplete) {
+            // an incomplete last entry is left behind if the application stopped while appending it
+            logger.warning("Ignoring incomplete last entry of journal file " + journalFilePath);
+        } else if (replayedEntryCount < entries.size()) {
+            logger.warning("Entry " + (replayedEntryCount + 1) + " of journal file " + journalFilePath
+                    + " cannot be replayed, so it and the entries after it are ignored.");
+            // the entry that could not be replayed may have been applied in part
+            replayed = new ReplayedLists(snapshot.get());
+            replay(replayed, entries.subList(0, replayedEntryCount));
+        }
+
+        AddressBook addressBook;
+        try {
+            addressBook = replayed.toAddressBook();
+        } catch (DataLoadingException e) {
+            logger.warning("Replaying journal file " + journalFilePath + " gives duplicate entries, so it is ignored: "
+                    + e.getCause().getMessage());
+            setAsideJournal();
+            return snapshot;
+        }
+        logger.info("Replayed " + replayedEntryCount + " journal entries from " + journalFilePath);
+        if (replayedEntryCount == entries.size()) {
+            lastSaved = new SavedState(addressBook);
+            journalEntryCount = replayedEntryCount;
+        } else if (!isLastEntryIncomplete) {
+            setAsideJournal();
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the journal {@code entries} to the lists of {@code state} in order, stopping at the first entry that
+     * cannot be read or applied, and returns the number of entries applied.
+     * The lists may have been changed in part by the entry that could not be applied.
+     */
+    private static int replay(ReplayedLists lists, List<String> entries) {
+        int replayedEntryCount = 0;
+        for (String line : entries) {
+            Optional<JsonJournalEntry> entry = readEntry(line);
+            if (entry.isEmpty()) {
+                break;
+            }
+            try {
+                entry.get().applyTo(lists.clients, lists.properties, lists.deals, lists.events);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in journal entry " + (replayedEntryCount + 1) + ": "
+                        + ive.getMessage());
+                break;
+            }
+            replayedEntryCount++;
+        }
+        return replayedEntryCount;
+    }
+
+    /**
+     * Moves the journal file aside, so that the entries it holds are kept for recovery instead of being discarded when
+     * the journal is next compacted.
+     */
+    private void setAsideJournal() {
+        Path badJournalFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName()
+                + BAD_JOURNAL_FILE_EXTENSION + System.currentTimeMillis());
+        try {
+            Files.move(journalFilePath, badJournalFilePath);
+            logger.warning("Moved journal file " + journalFilePath + " to " + badJournalFilePath);
+        } catch (IOException e) {
+            logger.warning("Error moving journal file " + journalFilePath + " to " + badJournalFilePath + ": " + e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the data file of this storage are journaled, saves to any other file are written in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (lastSaved == null || journalEntryCount >= compactionThreshold || !Files.exists(filePath)) {
+            compact(addressBook);
+            return;
+        }
+
+        Optional<List<JsonAdaptedListChange>> changes = lastSaved.changesTo(addressBook);
+        if (changes.isEmpty()) {
+            // the changes since the last save are not known, such as after a list was replaced as a whole
+            compact(addressBook);
+            return;
+        }
+        if (changes.get().isEmpty()) {
+            return;
+        }
+
+        if (!Files.exists(journalFilePath)) {
+            writeLine(JsonUtil.toCompactJsonString(createHeader()), StandardOpenOption.CREATE_NEW);
+        }
+        try {
+            writeLine(JsonUtil.toCompactJsonString(new JsonJournalEntry(changes.get())), StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // the journal may now end with an incomplete entry, so the next save starts over from the data file
+            lastSaved = null;
+            throw e;
+        }
+        lastSaved = new SavedState(addressBook);
+        journalEntryCount++;
+    }
+
+    /**
+     * Returns the number of bytes appended to the journal plus the number of bytes written to the data file so far.
+     */
+    @Override
+    public long getBytesWritten() {
+        return journalBytesWritten + snapshotStorage.getBytesWritten();
+    }
+
+    /**
+     * Saves the whole of {@code addressBook} to the data file and discards the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        lastSaved = null;
+        snapshotStorage.saveAddressBook(addressBook);
+        Files.deleteIfExists(journalFilePath);
+        lastSaved = new SavedState(addressBook);
+        journalEntryCount = 0;
+        logger.fine("Compacted journal into data file " + getAddressBookFilePath());
+    }
+
+    private void writeLine(String line, StandardOpenOption option) throws IOException {
+        byte[] bytes = (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        Files.write(journalFilePath, bytes, StandardOpenOption.WRITE, option);
+        journalBytesWritten += bytes.length;
+    }
+
+    private JsonJournalHeader createHeader() throws IOException {
+        Path filePath = getAddressBookFilePath();
+        return new JsonJournalHeader(Files.size(filePath), Files.getLastModifiedTime(filePath).toMillis());
+    }
+
+    private boolean isCurrentHeader(JsonJournalHeader header) {
+        try {
+            return header.equals(createHeader());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Optional<JsonJournalHeader> readHeader(String line) {
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, JsonJournalHeader.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<JsonJournalEntry> readEntry(String line) {
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, JsonJournalEntry.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The versions of the lists of an address book at the time it was saved.
+     */
+    private static class SavedState {
+        private final long clientListVersion;
+        private final long propertyListVersion;
+        private final long dealListVersion;
+        private final long eventListVersion;
+
+        SavedState(ReadOnlyAddressBook addressBook) {
+            clientListVersion = addressBook.getClientListVersion();
+            propertyListVersion = addressBook.getPropertyListVersion();
+            dealListVersion = addressBook.getDealListVersion();
+            eventListVersion = addressBook.getEventListVersion();
+        }
+
+        /**
+         * Returns the changes made to the lists of {@code addressBook} since they were saved, or an empty
+         * {@code Optional} if they are not known.
+         * The changes are read from the lists themselves, so the lists are neither copied nor compared.
+         */
+        Optional<List<JsonAdaptedListChange>> changesTo(ReadOnlyAddressBook addressBook) {
+            List<JsonAdaptedListChange> changes = new ArrayList<>();
+            if (!isSaved(clientListVersion, addressBook.getClientListVersion())) {
+                Optional<List<ListChange<Client>>> clientChanges =
+                        addressBook.getClientChangesSince(clientListVersion);
+                if (clientChanges.isEmpty()) {
+                    return Optional.empty();
+                }
+                clientChanges.get().forEach(change -> changes.add(JsonAdaptedListChange.ofClients(change)));
+            }
+            if (!isSaved(propertyListVersion, addressBook.getPropertyListVersion())) {
+                Optional<List<ListChange<Property>>> propertyChanges =
+                        addressBook.getPropertyChangesSince(propertyListVersion);
+                if (propertyChanges.isEmpty()) {
+                    return Optional.empty();
+                }
+                propertyChanges.get().forEach(change -> changes.add(JsonAdaptedListChange.ofProperties(change)));
+            }
+            if (!isSaved(dealListVersion, addressBook.getDealListVersion())) {
+                Optional<List<ListChange<Deal>>> dealChanges = addressBook.getDealChangesSince(dealListVersion);
+                if (dealChanges.isEmpty()) {
+                    return Optional.empty();
+                }
+                dealChanges.get().forEach(change -> changes.add(JsonAdaptedListChange.ofDeals(change)));
+            }
+            if (!isSaved(eventListVersion, addressBook.getEventListVersion())) {
+                Optional<List<ListChange<Event>>> eventChanges = addressBook.getEventChangesSince(eventListVersion);
+                if (eventChanges.isEmpty()) {
+                    return Optional.empty();
+                }
+                eventChanges.get().forEach(change -> changes.add(JsonAdaptedListChange.ofEvents(change)));
+            }
+            return Optional.of(changes);
+        }
+
+        private static boolean isSaved(long savedVersion, long version) {
+            return savedVersion != UNKNOWN_VERSION && savedVersion == version;
+        }
+    }
+
+    /**
+     * Copies of the lists of an address book, to which journal entries are applied.
+     */
+    private static class ReplayedLists {
+        private final List<Client> clients;
+        private final List<Property> properties;
+        private final List<Deal> deals;
+        private final List<Event> events;
+
+        ReplayedLists(ReadOnlyAddressBook addressBook) {
+            clients = new ArrayList<>(addressBook.getClientList());
+            properties = new ArrayList<>(addressBook.getPropertyList());
+            deals = new ArrayList<>(addressBook.getDealList());
+            events = new ArrayList<>(addressBook.getEventList());
+        }
+
+        AddressBook toAddressBook() throws DataLoadingException {
+            AddressBook addressBook = new AddressBook();
+            try {
+                addressBook.setClients(clients);
+                addressBook.setProperties(properties);
+                addressBook.setDeals(deals);
+                addressBook.setEvents(events);
+            } catch (RuntimeException e) {
+                // duplicate entries are rejected by the lists of the address book
+                throw new DataLoadingException(e);
+            }
+            return addressBook;
+        }
+    }
+}
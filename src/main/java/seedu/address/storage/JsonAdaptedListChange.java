@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ListChange;
+import seedu.address.model.client.Client;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+
+/**
+ * Jackson-friendly version of a change to one of the lists of an address book, in which {@code removed} entries
+ * starting from position {@code from} are replaced by the added entries.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedListChange {
+
+    public static final String CLIENTS = "clients";
+    public static final String PROPERTIES = "properties";
+    public static final String DEALS = "deals";
+    public static final String EVENTS = "events";
+
+    public static final String MESSAGE_INVALID_CHANGE = "Journal entry does not match the %s in the data file.";
+    public static final String MESSAGE_UNKNOWN_LIST = "Journal entry refers to an unknown list: %s";
+
+    private final String list;
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedClient> clients = new ArrayList<>();
+    private final List<JsonAdaptedProperty> properties = new ArrayList<>();
+    private final List<JsonAdaptedDeal> deals = new ArrayList<>();
+    private final List<JsonAdaptedEvent> events = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("list") String list, @JsonProperty("from") int from,
+                                 @JsonProperty("removed") int removed,
+                                 @JsonProperty("clients") List<JsonAdaptedClient> clients,
+                                 @JsonProperty("properties") List<JsonAdaptedProperty> properties,
+                                 @JsonProperty("deals") List<JsonAdaptedDeal> deals,
+                                 @JsonProperty("events") List<JsonAdaptedEvent> events) {
+        this.list = list;
+        this.from = from;
+        this.removed = removed;
+        if (clients != null) {
+            this.clients.addAll(clients);
+        }
+        if (properties != null) {
+            this.properties.addAll(properties);
+        }
+        if (deals != null) {
+            this.deals.addAll(deals);
+        }
+        if (events != null) {
+            this.events.addAll(events);
+        }
+    }
+
+    private JsonAdaptedListChange(String list, int from, int removed) {
+        this.list = list;
+        this.from = from;
+        this.removed = removed;
+    }
+
+    /**
+     * Returns a change to the clients list matching {@code listChange}.
+     */
+    public static JsonAdaptedListChange ofClients(ListChange<Client> listChange) {
+        JsonAdaptedListChange change = new JsonAdaptedListChange(CLIENTS, listChange.getFrom(),
+                listChange.getRemovedCount());
+        listChange.getAdded().forEach(client -> change.clients.add(new JsonAdaptedClient(client)));
+        return change;
+    }
+
+    /**
+     * Returns a change to the properties list matching {@code listChange}.
+     */
+    public static JsonAdaptedListChange ofProperties(ListChange<Property> listChange) {
+        JsonAdaptedListChange change = new JsonAdaptedListChange(PROPERTIES, listChange.getFrom(),
+                listChange.getRemovedCount());
+        listChange.getAdded().forEach(property -> change.properties.add(new JsonAdaptedProperty(property)));
+        return change;
+    }
+
+    /**
+     * Returns a change to the deals list matching {@code listChange}.
+     */
+    public static JsonAdaptedListChange ofDeals(ListChange<Deal> listChange) {
+        JsonAdaptedListChange change = new JsonAdaptedListChange(DEALS, listChange.getFrom(),
+                listChange.getRemovedCount());
+        listChange.getAdded().forEach(deal -> change.deals.add(new JsonAdaptedDeal(deal)));
+        return change;
+    }
+
+    /**
+     * Returns a change to the events list matching {@code listChange}.
+     */
+    public static JsonAdaptedListChange ofEvents(ListChange<Event> listChange) {
+        JsonAdaptedListChange change = new JsonAdaptedListChange(EVENTS, listChange.getFrom(),
+                listChange.getRemovedCount());
+        listChange.getAdded().forEach(event -> change.events.add(new JsonAdaptedEvent(event)));
+        return change;
+    }
+
+    /**
+     * Applies this change to the matching one of the given lists.
+     *
+     * @throws IllegalValueException if the change does not fit the list, or any of the added entries is invalid.
+     */
+    public void applyTo(List<Client> clientList, List<Property> propertyList, List<Deal> dealList,
+                        List<Event> eventList) throws IllegalValueException {
+        if (list == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_LIST, list));
+        }
+        switch (list) {
+        case CLIENTS:
+            List<Client> addedClients = new ArrayList<>();
+            for (JsonAdaptedClient client : clients) {
+                addedClients.add(client.toModelType());
+            }
+            replace(clientList, addedClients);
+            break;
+        case PROPERTIES:
+            List<Property> addedProperties = new ArrayList<>();
+            for (JsonAdaptedProperty property : properties) {
+                addedProperties.add(property.toModelType());
+            }
+            replace(propertyList, addedProperties);
+            break;
+        case DEALS:
+            List<Deal> addedDeals = new ArrayList<>();
+            for (JsonAdaptedDeal deal : deals) {
+                addedDeals.add(deal.toModelType());
+            }
+            replace(dealList, addedDeals);
+            break;
+        case EVENTS:
+            List<Event> addedEvents = new ArrayList<>();
+            for (JsonAdaptedEvent event : events) {
+                addedEvents.add(event.toModelType());
+            }
+            replace(eventList, addedEvents);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_LIST, list));
+        }
+    }
+
+    private <T> void replace(List<T> target, List<T> added) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > target.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, list));
+        }
+        new ListChange<>(from, removed, added).applyTo(target);
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -21,10 +23,22 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private final AtomicLong bytesWritten = new AtomicLong();
+
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes {@code filePath} on a single line without whitespace if
+     * {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +59,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
+        AddressBookReadEvent event = new AddressBookReadEvent();
+        event.begin();
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAddressBook.class);
         if (!jsonAddressBook.isPresent()) {
+            event.commit(filePath, false);
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            Optional<ReadOnlyAddressBook> addressBook = Optional.of(jsonAddressBook.get().toModelType());
+            event.commit(filePath, true);
+            return addressBook;
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +92,21 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        AddressBookSaveEvent event = new AddressBookSaveEvent();
+        event.begin();
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath, isCompact);
+        long fileSize = Files.size(filePath);
+        bytesWritten.addAndGet(fileSize);
+        event.commit(filePath, fileSize);
+    }
+
+    /**
+     * Returns the number of bytes written to json files by this storage so far.
+     */
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
     }
 
 }
@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Client;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+
+/**
+ * An entry of the address book journal that is serializable to JSON format, holding the changes made to the
+ * address book by one save.
+ */
+class JsonJournalEntry {
+
+    private final List<JsonAdaptedListChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("changes") List<JsonAdaptedListChange> changes) {
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Applies the changes of this entry to the given lists, in order.
+     *
+     * @throws IllegalValueException if any of the changes cannot be applied.
+     */
+    public void applyTo(List<Client> clients, List<Property> properties, List<Deal> deals, List<Event> events)
+            throws IllegalValueException {
+        for (JsonAdaptedListChange change : changes) {
+            change.applyTo(clients, properties, deals, events);
+        }
+    }
+}
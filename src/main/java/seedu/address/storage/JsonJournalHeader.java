@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The first line of the address book journal, identifying the data file that the journal entries apply to.
+ * A journal whose header does not match the data file was written against an older version of the data file.
+ */
+class JsonJournalHeader {
+
+    private final long snapshotSize;
+    private final long snapshotLastModified;
+
+    /**
+     * Constructs a {@code JsonJournalHeader} for a data file of the given size and modification time.
+     */
+    @JsonCreator
+    public JsonJournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+                             @JsonProperty("snapshotLastModified") long snapshotLastModified) {
+        this.snapshotSize = snapshotSize;
+        this.snapshotLastModified = snapshotLastModified;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JsonJournalHeader otherHeader)) {
+            return false;
+        }
+
+        return snapshotSize == otherHeader.snapshotSize
+                && snapshotLastModified == otherHeader.snapshotLastModified;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(snapshotSize) * 31 + Long.hashCode(snapshotLastModified);
+    }
+}
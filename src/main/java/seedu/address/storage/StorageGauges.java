@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import javax.management.MXBean;
+
+/**
+ * The gauges of saving the address book in the background shown through JMX, for watching how long saves take and
+ * whether they keep up with the commands in JDK Mission Control or JConsole.
+ */
+@MXBean
+public interface StorageGauges {
+
+    /**
+     * Returns the number of saves waiting to be written.
+     */
+    int getPendingSaveCount();
+
+    /**
+     * Returns the number of saves that were replaced by a later save before they were written.
+     */
+    long getCoalescedSaveCount();
+
+    /**
+     * Returns how long the last save written took, in nanoseconds, or 0 if nothing was written yet.
+     */
+    long getLastSaveNanos();
+
+    /**
+     * Returns the number of bytes written by the last save, or 0 if nothing was written yet.
+     */
+    long getLastSaveBytes();
+
+    /**
+     * Returns the number of bytes written by all saves so far.
+     */
+    long getBytesWritten();
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -75,4 +76,26 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, LongConsumer writeTimeConsumer) throws IOException {
+        logger.fine("Attempting to write to data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBook(addressBook, writeTimeConsumer);
+    }
+
+    @Override
+    public void checkAddressBookSaved() throws IOException {
+        addressBookStorage.checkAddressBookSaved();
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        logger.fine("Waiting for pending writes to data file: " + getAddressBookFilePath());
+        addressBookStorage.flushAddressBook();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return addressBookStorage.getBytesWritten();
+    }
+
 }
@@ -0,0 +1,388 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ListChange;
+import seedu.address.model.ListChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+
+/**
+ * An {@code AddressBookStorage} that saves the address book in the background using another
+ * {@code AddressBookStorage}, so that callers do not wait for the data to be written.
+ * Saving only captures the changes that the lists of the address book recorded since the previous save, and the
+ * writer applies them to its own copy of the address book before writing it, so the lists are only copied as a whole
+ * when those changes are not known.
+ * Saves made while an earlier save is still waiting to be written are coalesced, so that only the latest address book
+ * is written. A save that fails in the background is reported by the next call to {@link #checkAddressBookSaved()}.
+ * The time taken to write a save is passed to the {@code LongConsumer} it was made with, so callers can still time
+ * their saves.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage, StorageGauges {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer;
+    // the consumers of the write times of the saves waiting to be written, by the file they are written to
+    private final Map<Path, List<LongConsumer>> pendingSaves = new LinkedHashMap<>();
+    private final List<AddressBookCapture> pendingCaptures = new ArrayList<>();
+    private final SavedAddressBook savedAddressBook = new SavedAddressBook();
+
+    private AddressBookCapture lastCapture;
+    private IOException saveFailure;
+    private long coalescedSaveCount;
+    private volatile long lastSaveNanos;
+    private volatile long lastSaveBytes;
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes the address book using {@code storage}.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Waits for pending saves to be written first, so that the data read is the data last saved.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        awaitPendingSaves();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * {@code writeTimeConsumer} is called from the writer thread once the address book is written, with the time
+     * taken by the write that included this save.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, LongConsumer writeTimeConsumer) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(writeTimeConsumer);
+        scheduleSave(addressBook, getAddressBookFilePath(), writeTimeConsumer);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The changes to the address book are captured and written in the background, so this method returns before the
+     * data is written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws IOException if an earlier save failed and the failure has not been reported yet.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        scheduleSave(addressBook, filePath, unused -> { });
+    }
+
+    private void scheduleSave(ReadOnlyAddressBook addressBook, Path filePath, LongConsumer writeTimeConsumer)
+            throws IOException {
+        synchronized (this) {
+            // the lists of the address book keep changing after this method returns, but their entries do not
+            AddressBookCapture capture = new AddressBookCapture(addressBook, lastCapture);
+            lastCapture = capture;
+            pendingCaptures.add(capture);
+            boolean isWriteScheduled = !pendingSaves.isEmpty();
+            List<LongConsumer> writeTimeConsumers = pendingSaves.get(filePath);
+            if (writeTimeConsumers == null) {
+                writeTimeConsumers = new ArrayList<>();
+                pendingSaves.put(filePath, writeTimeConsumers);
+            } else {
+                coalescedSaveCount++;
+            }
+            writeTimeConsumers.add(writeTimeConsumer);
+            if (!isWriteScheduled) {
+                writer.execute(this::writePendingSaves);
+            }
+        }
+        checkAddressBookSaved();
+    }
+
+    /**
+     * Throws the failure of the last save that failed in the background, if it has not been reported yet.
+     */
+    @Override
+    public synchronized void checkAddressBookSaved() throws IOException {
+        if (saveFailure == null) {
+            return;
+        }
+        IOException failure = saveFailure;
+        saveFailure = null;
+        throw failure;
+    }
+
+    /**
+     * Waits for all pending saves to be written.
+     *
+     * @throws IOException if a save failed and the failure has not been reported yet.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        awaitPendingSaves();
+        checkAddressBookSaved();
+    }
+
+    /**
+     * Brings the copy of the address book up to date with the pending captures, and writes it to every file with a
+     * pending save. The time taken by each write is passed to the consumers of the saves it wrote.
+     */
+    private void writePendingSaves() {
+        List<AddressBookCapture> captures;
+        Map<Path, List<LongConsumer>> saves;
+        synchronized (this) {
+            captures = new ArrayList<>(pendingCaptures);
+            pendingCaptures.clear();
+            saves = new LinkedHashMap<>(pendingSaves);
+            pendingSaves.clear();
+        }
+        captures.forEach(savedAddressBook::apply);
+        for (Map.Entry<Path, List<LongConsumer>> save : saves.entrySet()) {
+            Path filePath = save.getKey();
+            try {
+                long bytesWrittenBefore = storage.getBytesWritten();
+                long saveStart = System.nanoTime();
+                storage.saveAddressBook(savedAddressBook, filePath);
+                long saveNanos = System.nanoTime() - saveStart;
+                lastSaveNanos = saveNanos;
+                lastSaveBytes = storage.getBytesWritten() - bytesWrittenBefore;
+                save.getValue().forEach(writeTimeConsumer -> writeTimeConsumer.accept(saveNanos));
+            } catch (IOException e) {
+                logger.warning("Failed to save address book to " + filePath + ": " + StringUtil.getDetails(e));
+                synchronized (this) {
+                    saveFailure = e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized int getPendingSaveCount() {
+        return pendingSaves.size();
+    }
+
+    @Override
+    public synchronized long getCoalescedSaveCount() {
+        return coalescedSaveCount;
+    }
+
+    @Override
+    public long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    @Override
+    public long getLastSaveBytes() {
+        return lastSaveBytes;
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return storage.getBytesWritten();
+    }
+
+    private void awaitPendingSaves() {
+        try {
+            // the writer runs tasks in order, so this task runs after every write scheduled before it
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        }
+    }
+
+    /**
+     * The changes made to one list of an address book since the previous capture, or a copy of the whole list if
+     * those changes are not known.
+     */
+    private static class ListCapture<T> {
+        private final List<ListChange<T>> changes;
+        private final List<T> items;
+
+        ListCapture(List<T> list, Optional<List<ListChange<T>>> changes) {
+            this.changes = changes.orElse(null);
+            this.items = changes.isPresent() ? null : new ArrayList<>(list);
+        }
+    }
+
+    /**
+     * What changed in the lists of an address book when it was saved, with the versions of the lists at the time.
+     */
+    private static class AddressBookCapture {
+        private final ListCapture<Client> clients;
+        private final ListCapture<Deal> deals;
+        private final ListCapture<Event> events;
+        private final ListCapture<Property> properties;
+        private final long clientListVersion;
+        private final long dealListVersion;
+        private final long eventListVersion;
+        private final long propertyListVersion;
+
+        /**
+         * Captures the changes made to the lists of {@code addressBook} since {@code previous}, if any, was captured.
+         */
+        AddressBookCapture(ReadOnlyAddressBook addressBook, AddressBookCapture previous) {
+            clientListVersion = addressBook.getClientListVersion();
+            dealListVersion = addressBook.getDealListVersion();
+            eventListVersion = addressBook.getEventListVersion();
+            propertyListVersion = addressBook.getPropertyListVersion();
+            boolean hasPrevious = previous != null;
+            clients = new ListCapture<>(addressBook.getClientList(), hasPrevious
+                    ? addressBook.getClientChangesSince(previous.clientListVersion) : Optional.empty());
+            deals = new ListCapture<>(addressBook.getDealList(), hasPrevious
+                    ? addressBook.getDealChangesSince(previous.dealListVersion) : Optional.empty());
+            events = new ListCapture<>(addressBook.getEventList(), hasPrevious
+                    ? addressBook.getEventChangesSince(previous.eventListVersion) : Optional.empty());
+            properties = new ListCapture<>(addressBook.getPropertyList(), hasPrevious
+                    ? addressBook.getPropertyChangesSince(previous.propertyListVersion) : Optional.empty());
+        }
+    }
+
+    /**
+     * A copy of one list of the saved address book, which records the changes applied to it like the list it copies.
+     */
+    private static class SavedList<T> {
+        private final ObservableList<T> items = FXCollections.observableArrayList();
+        private final ObservableList<T> unmodifiableItems = FXCollections.unmodifiableObservableList(items);
+        private final ListChangeLog<T> changeLog = new ListChangeLog<>();
+
+        void apply(ListCapture<T> capture) {
+            if (capture.changes == null) {
+                changeLog.recordReplacement();
+                items.setAll(capture.items);
+                return;
+            }
+            for (ListChange<T> change : capture.changes) {
+                change.applyTo(items);
+                changeLog.record(change);
+            }
+        }
+    }
+
+    /**
+     * The copy of the address book as of the latest capture applied, which is only used by the writer.
+     */
+    private static class SavedAddressBook implements ReadOnlyAddressBook {
+        private final SavedList<Client> clients = new SavedList<>();
+        private final SavedList<Deal> deals = new SavedList<>();
+        private final SavedList<Event> events = new SavedList<>();
+        private final SavedList<Property> properties = new SavedList<>();
+
+        void apply(AddressBookCapture capture) {
+            clients.apply(capture.clients);
+            deals.apply(capture.deals);
+            events.apply(capture.events);
+            properties.apply(capture.properties);
+        }
+
+        @Override
+        public long getClientListVersion() {
+            return clients.changeLog.getVersion();
+        }
+
+        @Override
+        public long getDealListVersion() {
+            return deals.changeLog.getVersion();
+        }
+
+        @Override
+        public long getEventListVersion() {
+            return events.changeLog.getVersion();
+        }
+
+        @Override
+        public long getPropertyListVersion() {
+            return properties.changeLog.getVersion();
+        }
+
+        @Override
+        public Optional<List<ListChange<Client>>> getClientChangesSince(long version) {
+            return clients.changeLog.getChangesSince(version);
+        }
+
+        @Override
+        public Optional<List<ListChange<Deal>>> getDealChangesSince(long version) {
+            return deals.changeLog.getChangesSince(version);
+        }
+
+        @Override
+        public Optional<List<ListChange<Event>>> getEventChangesSince(long version) {
+            return events.changeLog.getChangesSince(version);
+        }
+
+        @Override
+        public Optional<List<ListChange<Property>>> getPropertyChangesSince(long version) {
+            return properties.changeLog.getChangesSince(version);
+        }
+
+        @Override
+        public ObservableList<Client> getClientList() {
+            return clients.unmodifiableItems;
+        }
+
+        @Override
+        public ObservableList<Deal> getDealList() {
+            return deals.unmodifiableItems;
+        }
+
+        @Override
+        public ObservableList<Event> getEventList() {
+            return events.unmodifiableItems;
+        }
+
+        @Override
+        public ObservableList<Property> getPropertyList() {
+            return properties.unmodifiableItems;
+        }
+    }
+}
@@ -22,7 +22,7 @@ public class ClientCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Client client;
+    private Client client;
 
     @FXML
     private HBox cardPane;
@@ -37,13 +37,28 @@ public class ClientCard extends UiPart<Region> {
     @FXML
     private Label email;
 
+    /**
+     * Creates an empty {@code ClientCard}, to be filled in with {@link #setClient(Client, int)}.
+     */
+    public ClientCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code ClientCode} with the given {@code Client} and index to display.
      * Thanks to samuelneo for the idea of using emojis to represent phone and email.
      * See here: <a href="https://github.com/AY2425S2-CS2103T-T10-1/tp" />
      */
     public ClientCard(Client client, int displayedIndex) {
-        super(FXML);
+        this();
+        setClient(client, displayedIndex);
+    }
+
+    /**
+     * Shows {@code client} with the given index to display, replacing what the card showed before, so that a card
+     * can be reused for other clients without loading its FXML again.
+     */
+    public void setClient(Client client, int displayedIndex) {
         assert client != null : "Client should not be null";
         assert displayedIndex > 0 : "Index should be greater than 0";
         this.client = client;
@@ -53,4 +68,8 @@ public class ClientCard extends UiPart<Region> {
         address.setText("\uD83C\uDFE0 " + client.getAddress().value);
         email.setText("\uD83D\uDCE7 " + client.getEmail().value);
     }
+
+    public Client getClient() {
+        return client;
+    }
 }
@@ -23,7 +23,7 @@ public class DealCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Deal deal;
+    private Deal deal;
 
     @FXML
     private HBox cardPane;
@@ -42,11 +42,26 @@ public class DealCard extends UiPart<Region> {
     @FXML
     private FlowPane status;
 
+    /**
+     * Creates an empty {@code DealCard}, to be filled in with {@link #setDeal(Deal, int)}.
+     */
+    public DealCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code DealCode} with the given {@code Deal} and index to display.
      */
     public DealCard(Deal deal, int displayedIndex) {
-        super(FXML);
+        this();
+        setDeal(deal, displayedIndex);
+    }
+
+    /**
+     * Shows {@code deal} with the given index to display, replacing what the card showed before, so that a card
+     * can be reused for other deals without loading its FXML again.
+     */
+    public void setDeal(Deal deal, int displayedIndex) {
         assert deal != null : "Deal should not be null";
         assert displayedIndex > 0 : "Index should be greater than 0";
         this.deal = deal;
@@ -54,7 +69,7 @@ public class DealCard extends UiPart<Region> {
         propertyName.setText(deal.getPropertyName().fullName);
         buyer.setText("Buyer: " + deal.getBuyer().fullName);
         seller.setText("Seller: " + deal.getSeller().fullName);
-        price.setText(String.format("Price: $%sk", deal.getPrice().value.toString()));
+        price.setText(String.format("Price: $%sk", deal.getPrice()));
         Label statusLabel = new Label("Status: " + deal.getStatus().toString());
         switch (deal.getStatus()) {
         case OPEN -> statusLabel.setStyle("-fx-background-color: #36dc36;");
@@ -62,6 +77,10 @@ public class DealCard extends UiPart<Region> {
         case CLOSED -> statusLabel.setStyle("-fx-background-color: #ec1919;");
         default -> throw new AssertionError("Invalid status");
         }
-        status.getChildren().add(statusLabel);
+        status.getChildren().setAll(statusLabel);
+    }
+
+    public Deal getDeal() {
+        return deal;
     }
 }
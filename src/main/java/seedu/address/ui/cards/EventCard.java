@@ -26,7 +26,7 @@ public class EventCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Event event;
+    private Event event;
 
     @FXML
     private HBox cardPane;
@@ -43,11 +43,26 @@ public class EventCard extends UiPart<Region> {
     @FXML
     private Label note;
 
+    /**
+     * Creates an empty {@code EventCard}, to be filled in with {@link #setEvent(Event, int)}.
+     */
+    public EventCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code EventCode} with the given {@code Event} and index to display.
      */
     public EventCard(Event event, int displayedIndex) {
-        super(FXML);
+        this();
+        setEvent(event, displayedIndex);
+    }
+
+    /**
+     * Shows {@code event} with the given index to display, replacing what the card showed before, so that a card
+     * can be reused for other events without loading its FXML again.
+     */
+    public void setEvent(Event event, int displayedIndex) {
         assert event != null : "Event should not be null";
         assert displayedIndex > 0 : "Index should be greater than 0";
         this.event = event;
@@ -56,7 +71,7 @@ public class EventCard extends UiPart<Region> {
         if (event.getDateTime().isBefore(LocalDateTime.now())) {
             dateLabel.setStyle("-fx-background-color: #FF0000; -fx-text-fill: #FFFFFF;");
         }
-        dateTime.getChildren().add(dateLabel);
+        dateTime.getChildren().setAll(dateLabel);
         eventType.setText("Type: " + event.getEventType().toFormattedString());
         client.setText("With: " + event.getClientName().fullName);
         property.setText("About: " + event.getPropertyName().fullName);
@@ -64,4 +79,8 @@ public class EventCard extends UiPart<Region> {
         note.setText("Note: " + (noteValue.equals("N/A") ? "-" : noteValue));
         note.setWrapText(true);
     }
+
+    public Event getEvent() {
+        return event;
+    }
 }
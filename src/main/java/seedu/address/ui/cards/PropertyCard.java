@@ -23,7 +23,7 @@ public class PropertyCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Property property;
+    private Property property;
 
     @FXML
     private HBox cardPane;
@@ -42,21 +42,40 @@ public class PropertyCard extends UiPart<Region> {
     @FXML
     private FlowPane owner;
 
+    /**
+     * Creates an empty {@code PropertyCard}, to be filled in with {@link #setProperty(Property, int)}.
+     */
+    public PropertyCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PropertyCode} with the given {@code Property} and index to display.
      */
     public PropertyCard(Property property, int displayedIndex) {
-        super(FXML);
+        this();
+        setProperty(property, displayedIndex);
+    }
+
+    /**
+     * Shows {@code property} with the given index to display, replacing what the card showed before, so that a card
+     * can be reused for other properties without loading its FXML again.
+     */
+    public void setProperty(Property property, int displayedIndex) {
         assert property != null : "Property should not be null";
         assert displayedIndex > 0 : "Index should be greater than 0";
         this.property = property;
         id.setText(displayedIndex + ". ");
         name.setText(property.getFullName().fullName);
         address.setText(property.getAddress().value);
-        price.setText(String.format("Price: $%sk", property.getPrice().value.toString()));
+        price.setText(String.format("Price: $%sk", property.getPrice()));
         String sizeValue = property.getSize().map(s -> s.value).orElse("N/A");
         size.setText(sizeValue.equals("-") ? "Size: -" : String.format("Size: %s square feet", sizeValue));
         description.setText("Desc: " + property.getDescription().map(d -> d.getDescription()).orElse("-"));
-        owner.getChildren().add(new Label("Owner: " + property.getOwner().fullName));
+        owner.getChildren().setAll(new Label("Owner: " + property.getOwner().fullName));
+    }
+
+    public Property getProperty() {
+        return property;
     }
 }
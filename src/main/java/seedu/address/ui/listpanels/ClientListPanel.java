@@ -34,8 +34,11 @@ public class ClientListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Client} using a {@code ClientCard}.
+     * Each cell keeps its card and shows the next item in it, rather than creating a card for every item.
      */
     class ClientListViewCell extends ListCell<Client> {
+        private ClientCard card;
+
         @Override
         protected void updateItem(Client client, boolean empty) {
             super.updateItem(client, empty);
@@ -44,7 +47,11 @@ public class ClientListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ClientCard(client, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ClientCard();
+                }
+                card.setClient(client, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
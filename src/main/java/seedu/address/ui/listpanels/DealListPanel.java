@@ -34,8 +34,11 @@ public class DealListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Deal} using a {@code DealCard}.
+     * Each cell keeps its card and shows the next item in it, rather than creating a card for every item.
      */
     class DealListViewCell extends ListCell<Deal> {
+        private DealCard card;
+
         @Override
         protected void updateItem(Deal deal, boolean empty) {
             super.updateItem(deal, empty);
@@ -44,7 +47,11 @@ public class DealListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DealCard(deal, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new DealCard();
+                }
+                card.setDeal(deal, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
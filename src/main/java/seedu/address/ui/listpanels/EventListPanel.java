@@ -34,8 +34,11 @@ public class EventListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Event} using a {@code EventCard}.
+     * Each cell keeps its card and shows the next item in it, rather than creating a card for every item.
      */
     class EventListViewCell extends ListCell<Event> {
+        private EventCard card;
+
         @Override
         protected void updateItem(Event event, boolean empty) {
             super.updateItem(event, empty);
@@ -44,7 +47,11 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new EventCard();
+                }
+                card.setEvent(event, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
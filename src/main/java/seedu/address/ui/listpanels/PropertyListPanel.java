@@ -34,8 +34,11 @@ public class PropertyListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Property} using a {@code PropertyCard}.
+     * Each cell keeps its card and shows the next item in it, rather than creating a card for every item.
      */
     class PropertyListViewCell extends ListCell<Property> {
+        private PropertyCard card;
+
         @Override
         protected void updateItem(Property property, boolean empty) {
             super.updateItem(property, empty);
@@ -44,7 +47,11 @@ public class PropertyListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PropertyCard(property, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PropertyCard();
+                }
+                card.setProperty(property, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -39,10 +39,39 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_scriptAndSaveInterval_success() {
+        parametersStub.namedParameters.put("script", "bulk.txt");
+        parametersStub.namedParameters.put("save-every", "100");
+        expected.setScriptPath(Paths.get("bulk.txt"));
+        expected.setSaveInterval(100);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidSaveInterval_savesOnlyAtEnd() {
+        parametersStub.namedParameters.put("save-every", "-5");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("save-every", "often");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(AppParameters.STANDARD_INPUT_SCRIPT_PATH);
+        expected.setSaveInterval(10);
+        assertEquals(expected, AppParameters.parse(
+                new String[] {"--config=config.json", "--script=-", "--save-every=10", "unnamed", "--flag"}));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath() + ", saveInterval="
+                + appParameters.getSaveInterval() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +95,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different save interval -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setSaveInterval(1);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
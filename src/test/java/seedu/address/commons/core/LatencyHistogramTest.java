@@ -0,0 +1,52 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(100.5));
+    }
+
+    @Test
+    public void getPercentile_noLatencies_returnsZero() {
+        assertEquals(0L, histogram.getPercentile(50), "An empty histogram has no latencies");
+        assertEquals(0L, histogram.getMean(), "An empty histogram has no latencies");
+    }
+
+    @Test
+    public void getPercentile_latencies_returnsUpperBoundOfBucket() {
+        for (int i = 0; i < 90; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(150));
+        }
+        for (int i = 0; i < 9; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(40));
+
+        assertEquals(100L, histogram.getCount(), "Every latency should be counted");
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(200), histogram.getPercentile(50),
+                "150 microseconds falls in the bucket up to 200 microseconds");
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5), histogram.getPercentile(95),
+                "3 milliseconds falls in the bucket up to 5 milliseconds");
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(40), histogram.getPercentile(100),
+                "A percentile should not be more than the largest latency");
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(40), histogram.getMax(), "Unexpected largest latency");
+    }
+
+    @Test
+    public void getPercentile_latencyAboveLastBucket_returnsMax() {
+        long latency = TimeUnit.SECONDS.toNanos(500);
+        histogram.record(latency);
+        assertEquals(latency, histogram.getPercentile(50), "Latencies above every bucket should be reported exactly");
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Keyword(null));
+    }
+
+    @Test
+    public void constructor_emptyWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", () -> new Keyword("  "));
+    }
+
+    @Test
+    public void constructor_multipleWords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", () ->
+                new Keyword("aaa\tBBB"));
+    }
+
+    @Test
+    public void isWordIn_sameResultAsContainsWordIgnoreCase() {
+        List<String> sentences = List.of("", "   ", "aaa bBb ccc", "  AAA\tbBb\nccc  ", "aaa bbbb", "ccc@1");
+        List<String> words = List.of("aaa", " Bbb ", "bb", "CCc@1", "bbbb");
+        for (String sentence : sentences) {
+            for (String word : words) {
+                assertEquals(StringUtil.containsWordIgnoreCase(sentence, word), new Keyword(word).isWordIn(sentence),
+                        "'" + word + "' in '" + sentence + "'");
+            }
+        }
+    }
+
+    @Test
+    public void ofWords_splitsOnWhitespace() {
+        assertEquals(List.of(new Keyword("Alice"), new Keyword("Pauline")), Keyword.ofWords(" Alice  Pauline "));
+    }
+
+    @Test
+    public void anyIsWordIn() {
+        List<Keyword> keywords = Keyword.of(List.of("bob", "ALICE"));
+        assertTrue(Keyword.anyIsWordIn(keywords, "Alice Pauline"));
+        assertFalse(Keyword.anyIsWordIn(keywords, "Alicia Bobby"));
+        assertFalse(Keyword.anyIsWordIn(List.of(), "Alice"));
+    }
+}
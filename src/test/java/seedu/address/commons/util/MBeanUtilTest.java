@@ -0,0 +1,61 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelGauges;
+import seedu.address.model.ModelManager;
+
+public class MBeanUtilTest {
+
+    private static final String TYPE = "MBeanUtilTest";
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    @Test
+    public void register_null_throwsNullPointerException() {
+        ModelManager modelManager = new ModelManager();
+        assertThrows(NullPointerException.class, () -> MBeanUtil.register(null, modelManager, ModelGauges.class));
+        assertThrows(NullPointerException.class, () -> MBeanUtil.register(TYPE, null, ModelGauges.class));
+        assertThrows(NullPointerException.class, () -> MBeanUtil.register(TYPE, modelManager, null));
+    }
+
+    @Test
+    public void register_gauges_exposesGaugesAsAttributes() throws Exception {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addClient(ALICE);
+        ObjectName name = MBeanUtil.register(TYPE, modelManager, ModelGauges.class);
+        try {
+            assertEquals(new ObjectName("seedu.address:type=" + TYPE), name);
+            assertEquals(1, server.getAttribute(name, "ClientCount"));
+            // maps are shown as tables, which JDK Mission Control and JConsole can display
+            assertTrue(server.getAttribute(name, "IndexSizes") instanceof TabularData);
+        } finally {
+            MBeanUtil.unregister(name);
+        }
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void register_nameTaken_replacesMBean() throws Exception {
+        ObjectName name = MBeanUtil.register(TYPE, new ModelManager(), ModelGauges.class);
+        ModelManager modelManager = new ModelManager();
+        modelManager.addClient(ALICE);
+        try {
+            MBeanUtil.register(TYPE, modelManager, ModelGauges.class);
+            assertEquals(1, server.getAttribute(name, "ClientCount"));
+        } finally {
+            MBeanUtil.unregister(name);
+        }
+    }
+}
@@ -123,6 +123,15 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    @Test
+    public void containsWordIgnoreCase_otherWhitespace_correctResult() {
+        // words are separated by any whitespace, not only spaces
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbBb\nccc", "bbb"));
+        assertTrue(StringUtil.containsWordIgnoreCase("\r\naaa\f", "AAA"));
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa bbb", "\tbbb\n"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\u00a0bbb", "bbb"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,16 +10,25 @@ import static seedu.address.logic.commands.CommandTestUtil.CLIENT_NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.FlightRecorderUtil.recordEvents;
 import static seedu.address.testutil.TypicalClients.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
+import seedu.address.commons.core.CommandStatistics;
+import seedu.address.commons.core.CommandStatistics.Phase;
+import seedu.address.commons.core.LatencyHistogram;
 // import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.client.AddClientCommand;
@@ -32,6 +43,7 @@ import seedu.address.model.client.Client;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.testutil.ClientBuilder;
 
 public class LogicManagerTest {
@@ -83,6 +95,111 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_unmodifiedAddressBook_skipsSaving() throws Exception {
+        // saving with this storage fails, so the command only succeeds if saving is skipped
+        LogicManager logicManager = new LogicManager(model, createStorageThrowing(DUMMY_IO_EXCEPTION));
+        assertEquals(ListClientCommand.MESSAGE_SUCCESS,
+                logicManager.execute(ListClientCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(0, logicManager.getSaveCount());
+        assertEquals(1, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_modifiedAddressBook_saves() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(AddClientCommand.COMMAND_WORD + CLIENT_NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logicManager.execute(ListClientCommand.COMMAND_WORD);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertEquals(1, logicManager.getSaveCount());
+        assertEquals(1, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_validCommands_recordsPhaseLatencies() throws Exception {
+        logic.execute(AddClientCommand.COMMAND_WORD + CLIENT_NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.execute(ListClientCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        CommandStatistics commandStatistics = ((LogicManager) logic).getCommandStatistics();
+        assertEquals(Set.of(AddClientCommand.COMMAND_WORD, ListClientCommand.COMMAND_WORD),
+                commandStatistics.getCommandWords(), "Only commands that parse should be recorded");
+        for (Phase phase : Phase.values()) {
+            assertEquals(1L, commandStatistics.getHistogram(AddClientCommand.COMMAND_WORD, phase).orElseThrow()
+                    .getCount(), "Adding a client should record every phase");
+        }
+        assertTrue(commandStatistics.getHistogram(ListClientCommand.COMMAND_WORD, Phase.PERSIST).isEmpty(),
+                "Listing clients does not save");
+    }
+
+    @Test
+    public void execute_writeBehindStorage_recordsWritingSaves() throws Exception {
+        long writeMillis = 50;
+        JsonAddressBookStorage slowStorage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                try {
+                    Thread.sleep(writeMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(new WriteBehindAddressBookStorage(slowStorage),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logicManager = new LogicManager(model, storage);
+
+        logicManager.execute(AddClientCommand.COMMAND_WORD + CLIENT_NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        storage.flushAddressBook();
+
+        LatencyHistogram persistLatencies = logicManager.getCommandStatistics()
+                .getHistogram(AddClientCommand.COMMAND_WORD, Phase.PERSIST).orElseThrow();
+        assertEquals(1L, persistLatencies.getCount());
+        assertTrue(persistLatencies.getMax() >= TimeUnit.MILLISECONDS.toNanos(writeMillis),
+                "The save should be timed until it is written");
+    }
+
+    @Test
+    public void execute_earlierSaveFailed_throwsCommandExceptionAndSavesAgain() throws Exception {
+        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
+            private boolean hasFailed;
+
+            @Override
+            public void checkAddressBookSaved() throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw DUMMY_IO_EXCEPTION;
+                }
+            }
+        };
+        LogicManager logicManager = new LogicManager(model,
+                new StorageManager(addressBookStorage, new JsonUserPrefsStorage(prefPath)));
+
+        assertThrows(CommandException.class, String.format(LogicManager.FILE_OPS_ERROR_FORMAT,
+                DUMMY_IO_EXCEPTION.getMessage()), () -> logicManager.execute(ListClientCommand.COMMAND_WORD));
+        logicManager.execute(ListClientCommand.COMMAND_WORD);
+        assertEquals(1, logicManager.getSaveCount());
+    }
+
+    @Test
+    public void execute_recording_recordsCommandExecutionEvents() throws Throwable {
+        List<RecordedEvent> events = recordEvents(() -> {
+            logic.execute(ListClientCommand.COMMAND_WORD);
+            assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        }, "seedu.address.CommandExecution");
+
+        assertEquals(2, events.size());
+        assertEquals(ListClientCommand.COMMAND_WORD, events.get(0).getString("commandWord"));
+        assertTrue(events.get(0).getBoolean("isSuccessful"));
+        assertEquals("uicfhmowqewca", events.get(1).getString("commandWord"));
+        assertFalse(events.get(1).getBoolean("isSuccessful"));
+    }
+
     @Test
     public void getFilteredClientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredClientList().remove(0));
@@ -148,9 +265,23 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
-        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
-
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
+        logic = new LogicManager(model, createStorageThrowing(e));
+
+        // Triggers the saveAddressBook method by executing an add command
+        String addCommand = AddClientCommand.COMMAND_WORD + CLIENT_NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        Client expectedClient = new ClientBuilder(AMY).build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addClient(expectedClient);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Returns a storage that throws {@code e} when saving the address book.
+     */
+    private StorageManager createStorageThrowing(IOException e) {
+        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
@@ -161,16 +292,6 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddClientCommand.COMMAND_WORD + CLIENT_NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
-        Client expectedClient = new ClientBuilder(AMY).build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addClient(expectedClient);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        return new StorageManager(addressBookStorage, userPrefsStorage);
     }
 }
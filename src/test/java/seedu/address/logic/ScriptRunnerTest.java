@@ -0,0 +1,173 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.CLIENT_NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.CLIENT_NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.client.AddClientCommand;
+import seedu.address.logic.commands.client.DeleteClientCommand;
+import seedu.address.logic.commands.client.ListClientCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindAddressBookStorage;
+
+public class ScriptRunnerTest {
+
+    private static final String ADD_AMY = AddClientCommand.COMMAND_WORD + CLIENT_NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String ADD_BOB = AddClientCommand.COMMAND_WORD + CLIENT_NAME_DESC_BOB + PHONE_DESC_BOB
+            + EMAIL_DESC_BOB + ADDRESS_DESC_BOB;
+    private static final String DELETE_FIRST = DeleteClientCommand.COMMAND_WORD + " 1";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private JsonAddressBookStorage addressBookStorage;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+    }
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ScriptRunner(model, storage, -1));
+    }
+
+    @Test
+    public void run_validCommands_savesOnceAtEnd() throws Exception {
+        ScriptReport report = run(0, "# add two clients", ADD_AMY, "", ADD_BOB);
+
+        assertEquals(2L, report.getCommandCount(), "Both commands should have run");
+        assertEquals(2L, report.getCommandCount(AddClientCommand.COMMAND_WORD), "Both commands add clients");
+        assertTrue(report.getErrors().isEmpty(), "No command should have failed");
+        assertEquals(1, report.getSaveCount(), "The address book should only be saved at the end");
+        assertEquals(2, model.getAddressBook().getClientList().size(), "Both clients should have been added");
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().orElseThrow(),
+                "The saved address book should have both clients");
+    }
+
+    @Test
+    public void format_commandsRun_showsLatenciesOfEachCommandWord() throws Exception {
+        String formatted = run(0, ADD_AMY, ADD_BOB, ListClientCommand.COMMAND_WORD).format();
+
+        assertTrue(formatted.matches("(?s).*all commands +3 x .*"), formatted);
+        assertTrue(formatted.matches("(?s).*" + AddClientCommand.COMMAND_WORD + " +2 x .* p99 .*"), formatted);
+        assertTrue(formatted.matches("(?s).*" + ListClientCommand.COMMAND_WORD + " +1 x .*"), formatted);
+    }
+
+    @Test
+    public void run_saveInterval_savesEveryIntervalAndAtEnd() throws Exception {
+        ScriptReport report = run(2, ADD_AMY, ADD_BOB, DELETE_FIRST, DELETE_FIRST, ADD_AMY);
+
+        assertEquals(5L, report.getCommandCount(), "All commands should have run");
+        assertEquals(3, report.getSaveCount(),
+                "The address book should be saved after 2 and 4 commands and at the end");
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().orElseThrow(),
+                "The saved address book should match the model");
+    }
+
+    @Test
+    public void run_unmodifiedAddressBook_doesNotSave() throws Exception {
+        ScriptReport report = run(1, ListClientCommand.COMMAND_WORD, ListClientCommand.COMMAND_WORD);
+
+        assertEquals(2L, report.getCommandCount(), "Both commands should have run");
+        assertEquals(0, report.getSaveCount(), "An unmodified address book should not be saved");
+    }
+
+    @Test
+    public void run_failingCommand_reportsErrorAndContinues() throws Exception {
+        ScriptReport report = run(0, ADD_AMY, "uicfhmowqewca", ADD_AMY, ADD_BOB);
+
+        assertEquals(2L, report.getCommandCount(), "The valid commands should have run");
+        assertEquals(2, report.getErrors().size(), "The unknown and duplicate commands should have failed");
+        assertEquals("Line 2: " + MESSAGE_UNKNOWN_COMMAND, report.getErrors().get(0),
+                "The error should give the line of the failed command");
+        assertEquals(2, model.getAddressBook().getClientList().size(), "Both clients should have been added");
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        ScriptReport report = run(0, ADD_AMY, ExitCommand.COMMAND_WORD, ADD_BOB);
+
+        assertEquals(2L, report.getCommandCount(), "Commands after the exit command should not run");
+        assertEquals(1, model.getAddressBook().getClientList().size(), "Only the first client should be added");
+        assertEquals(1, report.getSaveCount(), "The address book should be saved when the script exits");
+    }
+
+    @Test
+    public void run_writeBehindStorage_timesWritingSaves() throws Exception {
+        long writeMillis = 50;
+        JsonAddressBookStorage slowStorage = new JsonAddressBookStorage(addressBookStorage.getAddressBookFilePath()) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                try {
+                    Thread.sleep(writeMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        storage = new StorageManager(new WriteBehindAddressBookStorage(slowStorage),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        ScriptReport report = run(1, ADD_AMY, ADD_BOB);
+
+        assertEquals(2, report.getSaveCount());
+        assertTrue(report.getSaveNanos() >= TimeUnit.MILLISECONDS.toNanos(2 * writeMillis),
+                "The saves should be timed until they are written");
+    }
+
+    @Test
+    public void run_saveFails_keepsReportOfCommandsRun() {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path path) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        };
+        storage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        BufferedReader script = new BufferedReader(new StringReader(String.join("\n", ADD_AMY, ADD_BOB)));
+        ScriptReport report = new ScriptReport();
+
+        assertThrows(IOException.class, () -> new ScriptRunner(model, storage, 1).run(script, report));
+        assertEquals(1L, report.getCommandCount(), "The command run before the failed save should be reported");
+        assertEquals(0, report.getSaveCount(), "The failed save should not be counted");
+        assertTrue(report.getThroughput() > 0, "The time until the failure should be reported");
+    }
+
+    private ScriptReport run(int saveInterval, String... lines) throws IOException {
+        BufferedReader script = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return new ScriptRunner(model, storage, saveInterval).run(script);
+    }
+}
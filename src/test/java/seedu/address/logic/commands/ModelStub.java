@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -9,8 +10,10 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ReferenceIndex;
 import seedu.address.model.client.Client;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
 import seedu.address.model.event.Event;
 import seedu.address.model.property.Property;
 
@@ -63,6 +66,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public ReferenceIndex getReferenceIndex() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Deal> getDealsWithStatus(DealStatus status) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getModificationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasClient(Client client) {
         throw new AssertionError("This method should not be called.");
@@ -83,6 +101,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void renameClient(Client target, Client editedClient) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasProperty(Property property) {
         throw new AssertionError("This method should not be called.");
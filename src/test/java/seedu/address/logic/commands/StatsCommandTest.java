@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.CommandStatistics;
+import seedu.address.commons.core.CommandStatistics.Phase;
+import seedu.address.logic.commands.client.AddClientCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager();
+    private final CommandStatistics commandStatistics = new CommandStatistics();
+
+    @Test
+    public void constructor_nullCommandStatistics_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StatsCommand(null));
+    }
+
+    @Test
+    public void execute_noCommandsRun_showsNoStatistics() {
+        assertCommandSuccess(new StatsCommand(commandStatistics), model, StatsCommand.MESSAGE_NO_STATISTICS,
+                new ModelManager());
+    }
+
+    @Test
+    public void execute_commandsRun_showsRowForEachPhase() {
+        commandStatistics.record(AddClientCommand.COMMAND_WORD, Phase.PARSE,
+                TimeUnit.MICROSECONDS.toNanos(30));
+        commandStatistics.record(AddClientCommand.COMMAND_WORD, Phase.EXECUTE,
+                TimeUnit.MILLISECONDS.toNanos(2));
+
+        String[] lines = new StatsCommand(commandStatistics).execute(model).getFeedbackToUser().split("\\R");
+
+        assertEquals(3, lines.length, "There should be a header and a row for each recorded phase");
+        assertEquals(StatsCommand.MESSAGE_HEADER, lines[0], "The first line should be the header");
+        assertTrue(lines[1].matches("add_client\\s+parse\\s+1\\s+0[.,]030\\s+0[.,]030\\s+0[.,]030\\s+0[.,]030"),
+                "Unexpected parse row: " + lines[1]);
+        assertTrue(lines[2].matches("add_client\\s+execute\\s+1(\\s+2[.,]000){4}"),
+                "Unexpected execute row: " + lines[2]);
+    }
+}
@@ -29,6 +29,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.commons.Address;
 import seedu.address.model.commons.Price;
 import seedu.address.model.deal.Deal;
@@ -107,7 +108,9 @@ public class EditClientCommandTest extends EditCommandTest<Client> {
         String expectedMessage = String.format(EditClientCommand.MESSAGE_EDIT_CLIENT_SUCCESS,
             Messages.formatClient(editedClient));
 
+        // the filter stays in place, so the edited client is hidden once it no longer matches
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        showClientAtIndex(expectedModel, INDEX_FIRST);
         expectedModel.setClient(model.getFilteredClientList().get(0), editedClient);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
@@ -220,6 +223,21 @@ public class EditClientCommandTest extends EditCommandTest<Client> {
                 expectedModel);
     }
 
+    @Test
+    public void execute_renameDuplicatesExistingDeal_failure() {
+        Client originalClient = model.getFilteredClientList().get(INDEX_FIRST.getZeroBased());
+        model.addProperty(MAPLE);
+        model.addDeal(new Deal(MAPLE.getFullName(), originalClient.getFullName(), MAPLE.getOwner(),
+                new Price((long) 222), DealStatus.PENDING));
+        model.addDeal(new Deal(MAPLE.getFullName(), new ClientName("New Name"), MAPLE.getOwner(),
+                new Price((long) 222), DealStatus.PENDING));
+
+        EditClientDescriptor descriptor = new EditClientDescriptorBuilder().withClientName("New Name").build();
+        EditClientCommand editCommand = new EditClientCommand(INDEX_FIRST, descriptor);
+
+        assertCommandFailure(editCommand, model, EditClientCommand.MESSAGE_RENAME_CONFLICT);
+    }
+
     @Test
     public void equals() {
         final EditClientCommand standardCommand = new EditClientCommand(INDEX_FIRST, DESC_AMY);
@@ -11,6 +11,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SELLER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -19,6 +22,10 @@ import seedu.address.logic.commands.deal.FindDealCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.commons.Price; // new import
 import seedu.address.model.deal.DealStatus;
+import seedu.address.model.deal.predicates.DealPropertyNameContainsPredicate;
+import seedu.address.model.deal.predicates.DealStatusPredicate;
+import seedu.address.model.property.PropertyName;
+import seedu.address.model.query.CompoundPredicate;
 
 public class FindDealCommandParserTest {
 
@@ -83,6 +90,18 @@ public class FindDealCommandParserTest {
                 + "John " + PREFIX_SELLER.getAndPrefix() + "Jane");
     }
 
+    @Test
+    public void parse_connectedArgs_returnsCompoundPredicate() {
+        DealPropertyNameContainsPredicate propertyNamePredicate =
+                new DealPropertyNameContainsPredicate(new PropertyName("Villa"));
+        DealStatusPredicate statusPredicate = new DealStatusPredicate(DealStatus.PENDING);
+
+        assertParseSuccess(parser, " " + PREFIX_PROPERTY_NAME + "Villa " + PREFIX_STATUS.getAndPrefix() + "PENDING",
+                new FindDealCommand(CompoundPredicate.allOf(List.of(propertyNamePredicate, statusPredicate))));
+        assertParseSuccess(parser, " " + PREFIX_PROPERTY_NAME + "Villa " + PREFIX_STATUS.getOrPrefix() + "PENDING",
+                new FindDealCommand(CompoundPredicate.anyOf(List.of(propertyNamePredicate, statusPredicate))));
+    }
+
     @Test
     public void parse_invalidStatusArg_throwsParseException() {
         assertParseFailure(parser, " " + PREFIX_STATUS + "INVALID",
@@ -8,10 +8,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,9 +22,15 @@ import javafx.collections.ObservableList;
 import seedu.address.model.client.Client;
 import seedu.address.model.client.exceptions.DuplicateClientException;
 import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.exceptions.DuplicateDealException;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventType;
+import seedu.address.model.event.Note;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
 import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.DealBuilder;
+import seedu.address.testutil.PropertyBuilder;
 
 public class AddressBookTest {
 
@@ -55,6 +63,73 @@ public class AddressBookTest {
         assertThrows(DuplicateClientException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getModificationCount_changesOnlyWhenModified() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasClient(ALICE);
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addClient(ALICE);
+        long countAfterAdd = addressBook.getModificationCount();
+        assertTrue(countAfterAdd > initialCount);
+
+        assertThrows(DuplicateClientException.class, () -> addressBook.addClient(ALICE));
+        assertEquals(countAfterAdd, addressBook.getModificationCount());
+
+        addressBook.removeClient(ALICE);
+        assertTrue(addressBook.getModificationCount() > countAfterAdd);
+    }
+
+    @Test
+    public void renameClient_clientReferenced_updatesAllReferences() {
+        addressBook.addClient(ALICE);
+        Deal deal = new DealBuilder().withBuyer("Alice Pauline").withSeller("Benson Meier").build();
+        Event event = new Event(LocalDateTime.of(2025, 4, 30, 17, 0), EventType.MEETING,
+                ALICE.getFullName(), new PropertyName("Maple Villa"), new Note("nil"));
+        Property property = new PropertyBuilder().withOwner("Alice Pauline").build();
+        addressBook.addDeal(deal);
+        addressBook.addEvent(event);
+        addressBook.addProperty(property);
+
+        Client renamedAlice = new ClientBuilder(ALICE).withClientName("Alice Tan").build();
+        addressBook.renameClient(ALICE, renamedAlice);
+
+        assertEquals(List.of(renamedAlice), addressBook.getClientList());
+        assertEquals(List.of(new DealBuilder(deal).withBuyer("Alice Tan").build()), addressBook.getDealList());
+        assertEquals(renamedAlice.getFullName(), addressBook.getEventList().get(0).getClientName());
+        assertEquals(renamedAlice.getFullName(), addressBook.getPropertyList().get(0).getOwner());
+        assertTrue(addressBook.getReferenceIndex().getDeals(ALICE.getFullName()).isEmpty());
+    }
+
+    @Test
+    public void renameClient_renamedDealDuplicatesExistingDeal_leavesAddressBookUnchanged() {
+        addressBook.addClient(ALICE);
+        Property property = new PropertyBuilder().withOwner("Alice Pauline").build();
+        addressBook.addProperty(property);
+        addressBook.addDeal(new DealBuilder().withBuyer("Alice Pauline").withSeller("Benson Meier").build());
+        addressBook.addDeal(new DealBuilder().withBuyer("Alice Tan").withSeller("Benson Meier").build());
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+        long modificationCount = addressBook.getModificationCount();
+
+        Client renamedAlice = new ClientBuilder(ALICE).withClientName("Alice Tan").build();
+        assertThrows(DuplicateDealException.class, () -> addressBook.renameClient(ALICE, renamedAlice));
+        assertEquals(expectedAddressBook, addressBook);
+        // the address book is not modified, so it is not saved again
+        assertEquals(modificationCount, addressBook.getModificationCount());
+        assertEquals(Set.of(property), addressBook.getReferenceIndex().getProperties(ALICE.getFullName()));
+    }
+
+    @Test
+    public void renameClient_onlyDealsReferenced_changesClientsAndDealsOnly() {
+        addressBook.addClient(ALICE);
+        addressBook.addDeal(new DealBuilder().withBuyer("Alice Pauline").withSeller("Benson Meier").build());
+        long modificationCount = addressBook.getModificationCount();
+
+        Client renamedAlice = new ClientBuilder(ALICE).withClientName("Alice Tan").build();
+        addressBook.renameClient(ALICE, renamedAlice);
+        assertEquals(modificationCount + 2, addressBook.getModificationCount());
+    }
+
     @Test
     public void hasClient_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasClient(null));
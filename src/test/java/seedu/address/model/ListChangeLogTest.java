@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class ListChangeLogTest {
+
+    @Test
+    public void getVersion_unchangedLists_sameVersion() {
+        assertEquals(new ListChangeLog<String>().getVersion(), new ListChangeLog<String>().getVersion());
+    }
+
+    @Test
+    public void getVersion_noChangeSinceLastVersion_sameVersion() {
+        ListChangeLog<String> changeLog = new ListChangeLog<>();
+        changeLog.record(0, 0, List.of("a"));
+        long firstVersion = changeLog.getVersion();
+        assertEquals(firstVersion, changeLog.getVersion());
+
+        changeLog.record(0, 1, List.of());
+        assertNotEquals(firstVersion, changeLog.getVersion());
+    }
+
+    @Test
+    public void getVersion_changedLists_differentVersions() {
+        ListChangeLog<String> changeLog = new ListChangeLog<>();
+        ListChangeLog<String> otherChangeLog = new ListChangeLog<>();
+        changeLog.record(0, 0, List.of("a"));
+        otherChangeLog.record(0, 0, List.of("a"));
+        assertNotEquals(changeLog.getVersion(), otherChangeLog.getVersion());
+    }
+
+    @Test
+    public void getChangesSince_earlierVersion_returnsChangesInOrder() {
+        ListChangeLog<String> changeLog = new ListChangeLog<>();
+        List<String> list = new ArrayList<>();
+        record(changeLog, list, new ListChange<>(0, 0, List.of("a", "b", "c")));
+        long version = changeLog.getVersion();
+        List<String> copy = new ArrayList<>(list);
+
+        record(changeLog, list, new ListChange<>(1, 1, List.of("d")));
+        record(changeLog, list, new ListChange<>(0, 1, List.of()));
+        changeLog.getChangesSince(version).get().forEach(change -> change.applyTo(copy));
+
+        assertEquals(List.of("d", "c"), list);
+        assertEquals(list, copy);
+        assertEquals(List.of(), changeLog.getChangesSince(changeLog.getVersion()).get());
+    }
+
+    @Test
+    public void getChangesSince_unknownVersion_returnsEmptyOptional() {
+        ListChangeLog<String> changeLog = new ListChangeLog<>();
+        changeLog.record(0, 0, List.of("a"));
+        ListChangeLog<String> otherChangeLog = new ListChangeLog<>();
+        otherChangeLog.record(0, 0, List.of("b"));
+        assertEquals(Optional.empty(), changeLog.getChangesSince(otherChangeLog.getVersion()));
+        assertEquals(Optional.empty(), changeLog.getChangesSince(ReadOnlyAddressBook.UNKNOWN_VERSION));
+    }
+
+    @Test
+    public void getChangesSince_versionBeforeReplacement_returnsEmptyOptional() {
+        ListChangeLog<String> changeLog = new ListChangeLog<>();
+        changeLog.record(0, 0, List.of("a"));
+        long version = changeLog.getVersion();
+
+        changeLog.recordReplacement();
+        assertEquals(Optional.empty(), changeLog.getChangesSince(version));
+        assertEquals(List.of(), changeLog.getChangesSince(changeLog.getVersion()).get());
+    }
+
+    @Test
+    public void getChangesSince_tooManyChangesSinceVersion_returnsEmptyOptional() {
+        ListChangeLog<String> changeLog = new ListChangeLog<>();
+        long version = changeLog.getVersion();
+        for (int i = 0; i < ListChangeLog.MAX_CHANGE_COUNT; i++) {
+            changeLog.record(i, 0, List.of("a"));
+        }
+        long recentVersion = changeLog.getVersion();
+        assertEquals(ListChangeLog.MAX_CHANGE_COUNT, changeLog.getChangesSince(version).get().size());
+
+        changeLog.record(0, 1, List.of());
+        assertEquals(Optional.empty(), changeLog.getChangesSince(version));
+        assertTrue(changeLog.getChangesSince(recentVersion).isPresent());
+    }
+
+    private static void record(ListChangeLog<String> changeLog, List<String> list, ListChange<String> change) {
+        change.applyTo(list);
+        changeLog.record(change);
+    }
+}
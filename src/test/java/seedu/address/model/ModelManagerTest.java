@@ -5,18 +5,46 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.FlightRecorderUtil.recordEvents;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalEvents.EVENT3;
+import static seedu.address.testutil.TypicalEvents.EVENT4;
+import static seedu.address.testutil.TypicalProperties.MAPLE;
+import static seedu.address.testutil.TypicalProperties.ORCHID;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
 import seedu.address.model.client.predicates.ClientNameContainsKeywordsPredicate;
+import seedu.address.model.commons.Price;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventType;
+import seedu.address.model.event.predicates.EventAfterDateTimePredicate;
+import seedu.address.model.event.predicates.EventBeforeDateTimePredicate;
+import seedu.address.model.event.predicates.EventOfTypePredicate;
+import seedu.address.model.event.predicates.EventWithClientPredicate;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.predicates.PropertyNameContainsKeywordsPredicate;
+import seedu.address.model.property.predicates.PropertyPriceAbovePredicate;
+import seedu.address.model.property.predicates.PropertyPriceBelowPredicate;
+import seedu.address.model.query.CompoundPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.PropertyBuilder;
 
 public class ModelManagerTest {
 
@@ -88,11 +116,128 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasClient(ALICE));
     }
 
+    @Test
+    public void updateFilteredClientList_nameKeywords_followsChangesToClients() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        modelManager.updateFilteredClientList(new ClientNameContainsKeywordsPredicate(Arrays.asList("meier", "Carl")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredClientList());
+
+        Client renamedAlice = new ClientBuilder(ALICE).withClientName("Carl Pauline").build();
+        modelManager.setClient(ALICE, renamedAlice);
+        assertEquals(List.of(renamedAlice, BENSON), modelManager.getFilteredClientList());
+
+        modelManager.deleteClient(BENSON);
+        assertEquals(List.of(renamedAlice), modelManager.getFilteredClientList());
+    }
+
+    @Test
+    public void updateFilteredPropertyList_nameKeywords_showsMatchingProperties() {
+        modelManager.addProperty(MAPLE);
+        modelManager.addProperty(ORCHID);
+        modelManager.updateFilteredPropertyList(
+                new PropertyNameContainsKeywordsPredicate(List.of("CONDOMINIUM", "nowhere")));
+        assertEquals(List.of(MAPLE, ORCHID), modelManager.getFilteredPropertyList());
+        modelManager.updateFilteredPropertyList(new PropertyNameContainsKeywordsPredicate(List.of("maple")));
+        assertEquals(List.of(MAPLE), modelManager.getFilteredPropertyList());
+    }
+
+    @Test
+    public void updateFilteredPropertyList_priceRange_followsChangesToProperties() {
+        modelManager.addProperty(MAPLE);
+        modelManager.addProperty(ORCHID);
+        modelManager.updateFilteredPropertyList(CompoundPredicate.allOf(List.of(
+                new PropertyPriceAbovePredicate(new Price(1000L)), new PropertyPriceBelowPredicate(new Price(2400L)))));
+        assertEquals(List.of(ORCHID), modelManager.getFilteredPropertyList());
+
+        Property cheaperMaple = new PropertyBuilder(MAPLE).withPrice(2399L).build();
+        modelManager.setProperty(MAPLE, cheaperMaple);
+        assertEquals(List.of(cheaperMaple, ORCHID), modelManager.getFilteredPropertyList());
+    }
+
+    @Test
+    public void updateFilteredEventList_timeRangeAndOtherTerms_showsMatchingEvents() {
+        modelManager.addEvent(EVENT1);
+        modelManager.addEvent(EVENT2);
+        modelManager.addEvent(EVENT3);
+        modelManager.addEvent(EVENT4);
+        Predicate<Event> afterPredicate = new EventAfterDateTimePredicate(LocalDateTime.of(2024, 1, 1, 0, 0));
+        Predicate<Event> beforePredicate = new EventBeforeDateTimePredicate(LocalDateTime.of(2025, 6, 1, 0, 0));
+        Predicate<Event> alicePredicate = new EventWithClientPredicate(new ClientName("Alice"));
+
+        modelManager.updateFilteredEventList(
+                CompoundPredicate.allOf(List.of(alicePredicate, afterPredicate, beforePredicate)));
+        assertEquals(List.of(EVENT4, EVENT1), modelManager.getFilteredEventList());
+
+        // events outside of the time range still pass other terms of a disjunction
+        modelManager.updateFilteredEventList(CompoundPredicate.anyOf(List.of(beforePredicate, alicePredicate)));
+        assertEquals(List.of(EVENT3, EVENT4, EVENT1), modelManager.getFilteredEventList());
+    }
+
+    @Test
+    public void updateFilteredEventList_typeAndTimeRange_followsRemovedEvents() {
+        modelManager.addEvent(EVENT1);
+        modelManager.addEvent(EVENT2);
+        modelManager.addEvent(EVENT3);
+        modelManager.addEvent(EVENT4);
+        modelManager.updateFilteredEventList(CompoundPredicate.allOf(List.of(
+                new EventOfTypePredicate(EventType.MEETING),
+                new EventAfterDateTimePredicate(LocalDateTime.of(2024, 1, 1, 0, 0)))));
+        assertEquals(List.of(EVENT1, EVENT2), modelManager.getFilteredEventList());
+
+        modelManager.deleteEvent(EVENT1);
+        assertEquals(List.of(EVENT2), modelManager.getFilteredEventList());
+    }
+
+    @Test
+    public void addClient_filteredList_keepsFilter() {
+        modelManager.addClient(ALICE);
+        modelManager.updateFilteredClientList(new ClientNameContainsKeywordsPredicate(List.of("Benson")));
+        assertEquals(List.of(), modelManager.getFilteredClientList());
+
+        modelManager.addClient(BENSON);
+        modelManager.addClient(new ClientBuilder().withClientName("Carl").withPhone("81112222").build());
+        assertEquals(List.of(BENSON), modelManager.getFilteredClientList());
+    }
+
     @Test
     public void getFilteredClientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredClientList().remove(0));
     }
 
+    @Test
+    public void gauges_entriesAdded_countsEntriesAndIndexEntries() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        modelManager.addProperty(MAPLE);
+
+        assertEquals(2, modelManager.getClientCount());
+        assertEquals(1, modelManager.getPropertyCount());
+        assertEquals(0, modelManager.getDealCount());
+        assertEquals(0, modelManager.getEventCount());
+        Map<String, Integer> indexSizes = modelManager.getIndexSizes();
+        // alice, pauline, benson and meier
+        assertEquals(4, (int) indexSizes.get("client.nameWords"));
+        assertEquals(0, (int) indexSizes.get("deal.prices"));
+        assertEquals(1, (int) indexSizes.get("property.prices"));
+    }
+
+    @Test
+    public void updateFilteredClientList_recording_recordsFilterUpdateEvent() throws Throwable {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        Predicate<Client> predicate = new ClientNameContainsKeywordsPredicate(List.of("Alice"));
+
+        List<RecordedEvent> events = recordEvents(() -> modelManager.updateFilteredClientList(predicate),
+                "seedu.address.FilterUpdate");
+
+        assertEquals(1, events.size());
+        assertEquals("clients", events.get(0).getString("listName"));
+        assertEquals(predicate.toString(), events.get(0).getString("predicate"));
+        assertEquals(1, events.get(0).getInt("shownCount"));
+        assertEquals(2, events.get(0).getInt("totalCount"));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withClient(ALICE).withClient(BENSON).build();
@@ -0,0 +1,100 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalDeals.DEAL1;
+import static seedu.address.testutil.TypicalDeals.DEAL2;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT4;
+import static seedu.address.testutil.TypicalProperties.MAPLE;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.ClientName;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
+import seedu.address.testutil.DealBuilder;
+import seedu.address.testutil.PropertyBuilder;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class ReferenceIndexTest {
+
+    private final AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+    private final ReferenceIndex referenceIndex = addressBook.getReferenceIndex();
+
+    @Test
+    public void getDeals_nullClientName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> referenceIndex.getDeals((ClientName) null));
+    }
+
+    @Test
+    public void getDeals_buyerOrSeller_returnsDeals() {
+        assertEquals(Set.of(DEAL2), referenceIndex.getDeals(new ClientName("Alice Brown")));
+        assertEquals(Set.of(DEAL1), referenceIndex.getDeals(new ClientName("Jane Smith")));
+    }
+
+    @Test
+    public void getDeals_propertyName_returnsDeals() {
+        assertEquals(Set.of(DEAL1), referenceIndex.getDeals(new PropertyName("Sunset Villa")));
+    }
+
+    @Test
+    public void getEvents_clientAndPropertyName_returnsEvents() {
+        assertEquals(Set.of(EVENT1, EVENT4), referenceIndex.getEvents(new ClientName("Alice Pauline")));
+        assertEquals(Set.of(EVENT1), referenceIndex.getEvents(new PropertyName("Maple Villa Condominium")));
+    }
+
+    @Test
+    public void getProperties_owner_returnsProperties() {
+        assertEquals(Set.of(MAPLE), referenceIndex.getProperties(new ClientName("Amy Bee")));
+    }
+
+    @Test
+    public void getDeals_unreferencedClientName_returnsEmptySet() {
+        assertTrue(referenceIndex.getDeals(new ClientName("Nobody")).isEmpty());
+    }
+
+    @Test
+    public void setDeal_editedDeal_updatesReferences() {
+        Deal editedDeal = new DealBuilder(DEAL1).withBuyer("Carl Kurz").withStatus(DealStatus.CLOSED).build();
+        addressBook.setDeal(DEAL1, editedDeal);
+        assertEquals(Set.of(editedDeal), referenceIndex.getDeals(new ClientName("Carl Kurz")));
+        assertEquals(Collections.emptySet(), referenceIndex.getDeals(new ClientName("John Doe")));
+        assertEquals(Set.of(editedDeal), referenceIndex.getDeals(new ClientName("Jane Smith")));
+    }
+
+    @Test
+    public void removeEvent_removesReferences() {
+        addressBook.removeEvent(EVENT4);
+        assertEquals(Set.of(EVENT1), referenceIndex.getEvents(new ClientName("Alice Pauline")));
+        assertTrue(referenceIndex.getEvents(new PropertyName("Marina Bay")).isEmpty());
+    }
+
+    @Test
+    public void setProperty_newOwner_updatesReferences() {
+        Property editedProperty = new PropertyBuilder(MAPLE).withOwner("Carl Kurz").build();
+        addressBook.setProperty(MAPLE, editedProperty);
+        assertTrue(referenceIndex.getProperties(new ClientName("Amy Bee")).isEmpty());
+        assertEquals(Set.of(editedProperty), referenceIndex.getProperties(new ClientName("Carl Kurz")));
+    }
+
+    @Test
+    public void resetData_replacesReferences() {
+        addressBook.resetData(new AddressBook());
+        assertTrue(referenceIndex.getDeals(new ClientName("John Doe")).isEmpty());
+        assertTrue(referenceIndex.getEvents(new ClientName("Alice Pauline")).isEmpty());
+        assertTrue(referenceIndex.getProperties(new ClientName("Amy Bee")).isEmpty());
+    }
+
+    @Test
+    public void getDeals_modifyReturnedSet_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                referenceIndex.getDeals(new ClientName("John Doe")).clear());
+    }
+}
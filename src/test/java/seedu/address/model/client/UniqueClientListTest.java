@@ -4,18 +4,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLIENT_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.BOB;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.index.TrigramIndex;
 import seedu.address.testutil.ClientBuilder;
 
 public class UniqueClientListTest {
@@ -45,6 +51,37 @@ public class UniqueClientListTest {
         assertTrue(uniqueClientList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_clientWithSamePhoneInList_returnsTrue() {
+        uniqueClientList.add(ALICE);
+        Client aliceWithOtherName = new ClientBuilder(ALICE).withClientName(VALID_CLIENT_NAME_BOB).build();
+        assertTrue(uniqueClientList.contains(aliceWithOtherName));
+    }
+
+    @Test
+    public void contains_clientRemovedFromList_returnsFalse() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.remove(ALICE);
+        assertFalse(uniqueClientList.contains(ALICE));
+    }
+
+    @Test
+    public void containsExcludingIndex_onlyMatchAtExcludedIndex_returnsFalse() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertFalse(uniqueClientList.contains(editedAlice, INDEX_FIRST));
+    }
+
+    @Test
+    public void containsExcludingIndex_matchAtOtherIndex_returnsTrue() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        Client aliceWithBobPhone = new ClientBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertTrue(uniqueClientList.contains(aliceWithBobPhone, INDEX_FIRST));
+        assertTrue(uniqueClientList.contains(ALICE, INDEX_SECOND));
+    }
+
     @Test
     public void add_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.add(null));
@@ -99,6 +136,15 @@ public class UniqueClientListTest {
         assertEquals(expectedUniqueClientList, uniqueClientList);
     }
 
+    @Test
+    public void setClient_editedClientHasDifferentIdentity_releasesOldIdentity() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.setClient(ALICE, BOB);
+        assertFalse(uniqueClientList.contains(ALICE));
+        uniqueClientList.add(ALICE);
+        assertTrue(uniqueClientList.contains(ALICE));
+    }
+
     @Test
     public void setClient_editedClientHasNonUniqueIdentity_throwsDuplicateClientException() {
         uniqueClientList.add(ALICE);
@@ -106,6 +152,14 @@ public class UniqueClientListTest {
         assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClient(ALICE, BOB));
     }
 
+    @Test
+    public void setClient_editedClientHasPhoneOfAnotherClient_throwsDuplicateClientException() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        Client aliceWithBobPhone = new ClientBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClient(ALICE, aliceWithBobPhone));
+    }
+
     @Test
     public void remove_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.remove(null));
@@ -151,6 +205,7 @@ public class UniqueClientListTest {
         UniqueClientList expectedUniqueClientList = new UniqueClientList();
         expectedUniqueClientList.add(BOB);
         assertEquals(expectedUniqueClientList, uniqueClientList);
+        assertFalse(uniqueClientList.contains(ALICE));
     }
 
     @Test
@@ -159,6 +214,49 @@ public class UniqueClientListTest {
         assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(listWithDuplicateClients));
     }
 
+    @Test
+    public void setClients_listWithClientsSharingPhone_throwsDuplicateClientException() {
+        Client bobWithAlicePhone = new ClientBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Client> listWithDuplicateClients = Arrays.asList(ALICE, bobWithAlicePhone);
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(listWithDuplicateClients));
+    }
+
+    @Test
+    public void getClientsWithAddressContaining_sharedAddressIndex_returnsOwnClientsOnly() {
+        TrigramIndex addressIndex = new TrigramIndex();
+        UniqueClientList clientList = new UniqueClientList(addressIndex);
+        UniqueClientList otherClientList = new UniqueClientList(addressIndex);
+        clientList.setClients(List.of(ALICE, BOB));
+        otherClientList.add(new ClientBuilder(BOB).withAddress(ALICE.getAddress().value).build());
+        assertEquals(Set.of(ALICE), clientList.getClientsWithAddressContaining("jurong WEST"));
+
+        // replacing the clients of one list leaves the addresses of the other list in the shared index
+        clientList.setClients(List.of(BOB));
+        assertTrue(clientList.getClientsWithAddressContaining("Jurong").isEmpty());
+        assertEquals(1, otherClientList.getClientsWithAddressContaining("Jurong").size());
+
+        Client editedBob = new ClientBuilder(BOB).withAddress("Bukit Timah").build();
+        clientList.setClient(BOB, editedBob);
+        assertEquals(Set.of(editedBob), clientList.getClientsWithAddressContaining("timah"));
+        clientList.remove(editedBob);
+        assertTrue(clientList.getClientsWithAddressContaining("timah").isEmpty());
+    }
+
+    @Test
+    public void getClientsWithPhoneAndEmailContaining_followChangesToList() {
+        uniqueClientList.setClients(List.of(ALICE, BOB));
+        assertEquals(Set.of(ALICE), uniqueClientList.getClientsWithPhoneContaining("351253"));
+        assertEquals(Set.of(ALICE), uniqueClientList.getClientsWithEmailContaining("alice@"));
+
+        Client editedAlice = new ClientBuilder(ALICE).withPhone("81234567").withEmail("pauline@example.com").build();
+        uniqueClientList.setClient(ALICE, editedAlice);
+        assertEquals(Set.of(editedAlice), uniqueClientList.getClientsWithPhoneContaining("1234"));
+        assertTrue(uniqueClientList.getClientsWithEmailContaining("alice@").isEmpty());
+
+        uniqueClientList.remove(editedAlice);
+        assertTrue(uniqueClientList.getClientsWithPhoneContaining("1234").isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
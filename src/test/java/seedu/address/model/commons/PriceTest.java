@@ -1,7 +1,9 @@
 package seedu.address.model.commons;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -13,8 +15,13 @@ public class PriceTest {
         Price validPrice1 = new Price(2400L);
         Price validPrice2 = new Price(12345L);
 
-        assertTrue(validPrice1.value != null);
-        assertTrue(validPrice2.value != null);
+        assertEquals(2400L, validPrice1.value);
+        assertEquals(12345L, validPrice2.value);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Price(null));
     }
 
     @Test
@@ -8,6 +8,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -128,6 +130,40 @@ public class UniqueDealListTest {
                 uniqueDealList.setDeal(deal2, editedDeal));
     }
 
+    @Test
+    public void replaceAll_validReplacements_replacesDealsInPlace() {
+        Deal deal1 = new DealBuilder().build();
+        Deal deal2 = new DealBuilder().withPropertyName("Different Property").build();
+        Deal deal3 = new DealBuilder().withPropertyName("Third Property").build();
+        uniqueDealList.setDeals(Arrays.asList(deal1, deal2, deal3));
+        Deal editedDeal1 = new DealBuilder(deal1).withBuyer("Different Buyer").build();
+        Deal editedDeal3 = new DealBuilder(deal3).withBuyer("Different Buyer").build();
+
+        uniqueDealList.replaceAll(Map.of(deal1, editedDeal1, deal3, editedDeal3));
+
+        assertEquals(Arrays.asList(editedDeal1, deal2, editedDeal3), uniqueDealList.asUnmodifiableObservableList());
+        assertFalse(uniqueDealList.contains(deal1));
+        assertTrue(uniqueDealList.contains(editedDeal3));
+    }
+
+    @Test
+    public void replaceAll_editedDealDuplicatesUnreplacedDeal_throwsDuplicateDealException() {
+        Deal deal1 = new DealBuilder().build();
+        Deal deal2 = new DealBuilder().withPropertyName("Different Property").build();
+        uniqueDealList.setDeals(Arrays.asList(deal1, deal2));
+        Deal editedDeal2 = new DealBuilder(deal1).withPrice(1L).build();
+
+        assertThrows(DuplicateDealException.class, () -> uniqueDealList.replaceAll(Map.of(deal2, editedDeal2)));
+        assertEquals(Arrays.asList(deal1, deal2), uniqueDealList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_targetDealNotInList_throwsDealNotFoundException() {
+        Deal deal = new DealBuilder().build();
+        Deal editedDeal = new DealBuilder().withBuyer("Different Buyer").build();
+        assertThrows(DealNotFoundException.class, () -> uniqueDealList.replaceAll(Map.of(deal, editedDeal)));
+    }
+
     @Test
     public void remove_nullDeal_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueDealList.remove(null));
@@ -184,6 +220,16 @@ public class UniqueDealListTest {
                 uniqueDealList.setDeals(listWithDuplicateDeals));
     }
 
+    @Test
+    public void setDeals_listWithSameIdentityDifferentPrice_throwsDuplicateDealException() {
+        Deal deal = new DealBuilder().build();
+        Deal sameIdentityDeal = new DealBuilder().withPrice(deal.getPrice().value + 1).build();
+        List<Deal> listWithDuplicateDeals = Arrays.asList(deal, sameIdentityDeal);
+
+        assertThrows(DuplicateDealException.class, () ->
+                uniqueDealList.setDeals(listWithDuplicateDeals));
+    }
+
     @Test
     public void setDeals_validList_success() {
         List<Deal> validDealList = Collections.singletonList(new DealBuilder().build());
@@ -200,4 +246,20 @@ public class UniqueDealListTest {
         assertThrows(UnsupportedOperationException.class, () ->
                 uniqueDealList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void getDealsWithStatus_followsChangesToList() {
+        Deal openDeal = new DealBuilder().withBuyer("Alice Pauline").withStatus(DealStatus.OPEN).build();
+        Deal pendingDeal = new DealBuilder().withBuyer("Benson Meier").withStatus(DealStatus.PENDING).build();
+        uniqueDealList.setDeals(List.of(openDeal, pendingDeal));
+        assertEquals(Set.of(openDeal), uniqueDealList.getDealsWithStatus(DealStatus.OPEN));
+        assertTrue(uniqueDealList.getDealsWithStatus(DealStatus.CLOSED).isEmpty());
+
+        Deal closedDeal = new DealBuilder(pendingDeal).withStatus(DealStatus.CLOSED).build();
+        uniqueDealList.setDeal(pendingDeal, closedDeal);
+        uniqueDealList.remove(openDeal);
+        assertTrue(uniqueDealList.getDealsWithStatus(DealStatus.OPEN).isEmpty());
+        assertTrue(uniqueDealList.getDealsWithStatus(DealStatus.PENDING).isEmpty());
+        assertEquals(Set.of(closedDeal), uniqueDealList.getDealsWithStatus(DealStatus.CLOSED));
+    }
 }
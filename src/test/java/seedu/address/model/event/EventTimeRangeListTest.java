@@ -0,0 +1,107 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.client.ClientName;
+import seedu.address.model.property.PropertyName;
+
+public class EventTimeRangeListTest {
+    private final LocalDateTime dateTime1 = LocalDateTime.of(2025, 4, 30, 17, 0);
+    private final LocalDateTime dateTime2 = LocalDateTime.of(2025, 9, 11, 9, 0);
+    private final LocalDateTime dateTime3 = LocalDateTime.of(2026, 1, 2, 10, 30);
+
+    private final Event event1 = createEvent(dateTime1);
+    private final Event event2 = createEvent(dateTime2);
+    private final Event event3 = createEvent(dateTime3);
+
+    private final UniqueEventList uniqueEventList = new UniqueEventList();
+    private final EventTimeRangeList eventTimeRangeList =
+            new EventTimeRangeList(uniqueEventList.asUnmodifiableObservableList());
+
+    @Test
+    public void noRange_showsAllEvents() {
+        uniqueEventList.setEvents(Arrays.asList(event3, event1, event2));
+        assertEquals(Arrays.asList(event1, event2, event3), eventTimeRangeList);
+    }
+
+    @Test
+    public void setRange_beforeDateTime_excludesEventsAtDateTime() {
+        uniqueEventList.setEvents(Arrays.asList(event1, event2, event3));
+        eventTimeRangeList.setRange(null, dateTime2);
+        assertEquals(Collections.singletonList(event1), eventTimeRangeList);
+    }
+
+    @Test
+    public void setRange_afterDateTime_excludesEventsAtDateTime() {
+        uniqueEventList.setEvents(Arrays.asList(event1, event2, event3));
+        eventTimeRangeList.setRange(dateTime2, null);
+        assertEquals(Collections.singletonList(event3), eventTimeRangeList);
+    }
+
+    @Test
+    public void setRange_emptyRange_showsNoEvents() {
+        uniqueEventList.setEvents(Arrays.asList(event1, event2, event3));
+        eventTimeRangeList.setRange(dateTime3, dateTime1);
+        assertEquals(Collections.emptyList(), eventTimeRangeList);
+    }
+
+    @Test
+    public void sourceChanged_eventAddedInRange_showsEvent() {
+        uniqueEventList.setEvents(Arrays.asList(event1, event3));
+        eventTimeRangeList.setRange(dateTime1, null);
+        uniqueEventList.add(event2);
+        assertEquals(Arrays.asList(event2, event3), eventTimeRangeList);
+        assertEquals(1, eventTimeRangeList.getSourceIndex(0));
+    }
+
+    @Test
+    public void sourceChanged_eventsChanged_reportsChangedEventsOnly() {
+        Event event4 = createEvent(LocalDateTime.of(2026, 6, 1, 8, 0));
+        uniqueEventList.setEvents(Arrays.asList(event1, event2, event3));
+        eventTimeRangeList.setRange(dateTime1, LocalDateTime.of(2026, 3, 1, 0, 0));
+        List<Event> added = new ArrayList<>();
+        List<Event> removed = new ArrayList<>();
+        eventTimeRangeList.addListener((ListChangeListener<Event>) change -> {
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        // events outside of the range are not reported
+        uniqueEventList.add(event4);
+        uniqueEventList.remove(event1);
+        assertEquals(List.of(), added);
+        assertEquals(List.of(), removed);
+
+        Event movedEvent = createEvent(LocalDateTime.of(2025, 12, 25, 12, 0));
+        uniqueEventList.setEvent(event3, movedEvent);
+        uniqueEventList.remove(event2);
+        assertEquals(List.of(movedEvent), added);
+        assertEquals(List.of(event3, event2), removed);
+        assertEquals(List.of(movedEvent), eventTimeRangeList);
+        assertEquals(0, eventTimeRangeList.getSourceIndex(0));
+    }
+
+    @Test
+    public void clearRange_showsAllEvents() {
+        uniqueEventList.setEvents(Arrays.asList(event1, event2, event3));
+        eventTimeRangeList.setRange(dateTime1, dateTime3);
+        eventTimeRangeList.clearRange();
+        assertEquals(Arrays.asList(event1, event2, event3), eventTimeRangeList);
+    }
+
+    private static Event createEvent(LocalDateTime dateTime) {
+        return new Event(dateTime, EventType.MEETING, new ClientName("Alice"), new PropertyName("Maple Villa"),
+                new Note("Viewing"));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -8,6 +9,8 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -62,6 +65,18 @@ public class UniqueEventListTest {
         assertEquals(expectedList, uniqueEventList);
     }
 
+    @Test
+    public void add_eventsOutOfOrder_keepsEventsSorted() {
+        Event laterEvent = new Event(dateTime2, eventType, clientName, propertyName, note);
+        Event earlierEvent = new Event(dateTime1, eventType, clientName, propertyName, note);
+        Event simultaneousEvent = new Event(dateTime1, EventType.OTHERS, clientName, propertyName, note);
+        uniqueEventList.add(laterEvent);
+        uniqueEventList.add(earlierEvent);
+        uniqueEventList.add(simultaneousEvent);
+        assertEquals(Arrays.asList(earlierEvent, simultaneousEvent, laterEvent),
+                uniqueEventList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setEvent_targetEventNotInList_throwsEventNotFoundException() {
         Event event = new Event(dateTime1, eventType, clientName, propertyName, note);
@@ -90,6 +105,51 @@ public class UniqueEventListTest {
         assertEquals(expectedList, uniqueEventList);
     }
 
+    @Test
+    public void setEvent_editedEventHasLaterDateTime_keepsEventsSorted() {
+        Event event1 = new Event(dateTime1, eventType, clientName, propertyName, note);
+        Event event2 = new Event(dateTime2, eventType, clientName, propertyName, note);
+        uniqueEventList.add(event1);
+        uniqueEventList.add(event2);
+        Event editedEvent = new Event(dateTime2.plusDays(1), eventType, clientName, propertyName, note);
+        uniqueEventList.setEvent(event1, editedEvent);
+        assertEquals(Arrays.asList(event2, editedEvent), uniqueEventList.asUnmodifiableObservableList());
+        assertFalse(uniqueEventList.contains(event1));
+    }
+
+    @Test
+    public void replaceAll_validReplacements_keepsEventsSorted() {
+        Event event1 = new Event(dateTime1, eventType, clientName, propertyName, note);
+        Event event2 = new Event(dateTime2, eventType, clientName, propertyName, note);
+        uniqueEventList.setEvents(Arrays.asList(event1, event2));
+        ClientName newName = new ClientName("Alice Tan");
+        Event editedEvent1 = new Event(dateTime1, eventType, newName, propertyName, note);
+        Event editedEvent2 = new Event(dateTime2, eventType, newName, propertyName, note);
+
+        uniqueEventList.replaceAll(Map.of(event1, editedEvent1, event2, editedEvent2));
+
+        assertEquals(Arrays.asList(editedEvent1, editedEvent2), uniqueEventList.asUnmodifiableObservableList());
+        assertFalse(uniqueEventList.contains(event1));
+    }
+
+    @Test
+    public void replaceAll_editedEventDuplicatesUnreplacedEvent_throwsDuplicateEventException() {
+        Event event1 = new Event(dateTime1, eventType, clientName, propertyName, note);
+        Event event2 = new Event(dateTime2, eventType, clientName, propertyName, note);
+        uniqueEventList.setEvents(Arrays.asList(event1, event2));
+        Event editedEvent2 = new Event(dateTime1, eventType, clientName, propertyName, new Note("Different note"));
+
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.replaceAll(Map.of(event2, editedEvent2)));
+        assertEquals(Arrays.asList(event1, event2), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_targetEventNotInList_throwsEventNotFoundException() {
+        Event event = new Event(dateTime1, eventType, clientName, propertyName, note);
+        Event editedEvent = new Event(dateTime2, eventType, clientName, propertyName, note);
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.replaceAll(Map.of(event, editedEvent)));
+    }
+
     @Test
     public void remove_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.remove(null));
@@ -116,4 +176,49 @@ public class UniqueEventListTest {
         List<Event> duplicateList = Arrays.asList(event1, duplicateEvent);
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(duplicateList));
     }
+
+    @Test
+    public void setEvents_listWithSameIdentityDifferentNote_throwsDuplicateEventException() {
+        Event event1 = new Event(dateTime1, eventType, clientName, propertyName, note);
+        Event duplicateEvent = new Event(dateTime1, eventType, clientName, propertyName, new Note("different note"));
+        List<Event> duplicateList = Arrays.asList(event1, duplicateEvent);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(duplicateList));
+    }
+
+    @Test
+    public void setEvents_listWithDistinctEvents_success() {
+        Event event1 = new Event(dateTime1, eventType, clientName, propertyName, note);
+        Event event2 = new Event(dateTime2, eventType, clientName, propertyName, note);
+        uniqueEventList.setEvents(Arrays.asList(event2, event1));
+        assertEquals(Arrays.asList(event1, event2), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getEvents_bucketsFollowChangesToList() {
+        Event meeting = new Event(dateTime1, EventType.MEETING, clientName, propertyName, note);
+        Event workshop = new Event(dateTime2, EventType.WORKSHOP, new ClientName("Bob Alice"),
+                new PropertyName("Oak House"), note);
+        uniqueEventList.setEvents(Arrays.asList(workshop, meeting));
+        assertEquals(Set.of(meeting), uniqueEventList.getEventsOfType(EventType.MEETING, null, null));
+        assertEquals(Set.of(meeting, workshop),
+                uniqueEventList.getEventsWithClientNameContainingAny(List.of("alice"), null, null));
+        assertEquals(Set.of(workshop),
+                uniqueEventList.getEventsAboutPropertyNameContainingAny(List.of("OAK", "Pine"), null, null));
+
+        // only the events strictly within the time range are returned
+        assertEquals(Set.of(workshop),
+                uniqueEventList.getEventsWithClientNameContainingAny(List.of("Alice"), dateTime1, null));
+        assertEquals(Set.of(meeting),
+                uniqueEventList.getEventsWithClientNameContainingAny(List.of("Alice"), null, dateTime2));
+        assertTrue(uniqueEventList.getEventsOfType(EventType.MEETING, dateTime1, dateTime2).isEmpty());
+
+        Event conference = new Event(dateTime2, EventType.CONFERENCE, new ClientName("Carl"), propertyName, note);
+        uniqueEventList.setEvent(workshop, conference);
+        uniqueEventList.remove(meeting);
+        assertTrue(uniqueEventList.getEventsOfType(EventType.WORKSHOP, null, null).isEmpty());
+        assertEquals(Set.of(conference), uniqueEventList.getEventsOfType(EventType.CONFERENCE, null, null));
+        assertTrue(uniqueEventList.getEventsWithClientNameContainingAny(List.of("Alice"), null, null).isEmpty());
+        assertEquals(Set.of(conference),
+                uniqueEventList.getEventsAboutPropertyNameContainingAny(List.of("Maple"), null, null));
+    }
 }
@@ -0,0 +1,68 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SortedLongIndexTest {
+
+    private final SortedLongIndex<String> lengthIndex = new SortedLongIndex<>(String::length);
+
+    @BeforeEach
+    public void setUp() {
+        lengthIndex.add("ccc");
+        lengthIndex.add("a");
+        lengthIndex.add("dddd");
+        lengthIndex.add("bb");
+        lengthIndex.add("eee");
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> lengthIndex.add(null));
+    }
+
+    @Test
+    public void getInRange_boundsAreInclusive() {
+        assertEquals(Set.of("bb", "ccc", "eee"), lengthIndex.getInRange(2, 3));
+        assertEquals(Set.of("ccc", "eee"), lengthIndex.getInRange(3, 3));
+        assertEquals(Set.of("a", "bb", "ccc", "dddd", "eee"), lengthIndex.getInRange(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void getInRange_emptyRange_returnsEmptySet() {
+        assertTrue(lengthIndex.getInRange(5, 10).isEmpty());
+        assertTrue(lengthIndex.getInRange(3, 2).isEmpty());
+    }
+
+    @Test
+    public void remove_removesOnlyEqualItem() {
+        lengthIndex.remove("ccc");
+        assertEquals(Set.of("eee"), lengthIndex.getInRange(3, 3));
+
+        // items that are not in the index are ignored
+        lengthIndex.remove("fff");
+        lengthIndex.remove("ffffff");
+        assertEquals(4, lengthIndex.size());
+    }
+
+    @Test
+    public void setAll_replacesItems() {
+        lengthIndex.setAll(List.of("xyz", "x", "xy"));
+        assertEquals(3, lengthIndex.size());
+        assertEquals(Set.of("x", "xy"), lengthIndex.getInRange(0, 2));
+
+        // the index still grows after being replaced
+        for (int i = 0; i < 40; i++) {
+            lengthIndex.add("y" + i);
+        }
+        assertEquals(43, lengthIndex.size());
+        assertEquals(Set.of("x"), lengthIndex.getInRange(1, 1));
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SubstringIndexTest {
+
+    private final SubstringIndex<String> index = new SubstringIndex<>();
+
+    @BeforeEach
+    public void setUp() {
+        index.add("alice", "94351253");
+        index.add("benson", "98765432");
+        index.add("carl", "95352563");
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null, "9435"));
+        assertThrows(NullPointerException.class, () -> index.add("alice", null));
+    }
+
+    @Test
+    public void getContaining_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getContaining(null));
+    }
+
+    @Test
+    public void getContaining_fragment_returnsItemsContainingFragment() {
+        assertEquals(Set.of("carl"), index.getContaining("535"));
+        assertEquals(Set.of("alice"), index.getContaining("125"));
+        assertEquals(Set.of("benson"), index.getContaining("5432"));
+        assertEquals(Set.of("alice"), index.getContaining("94351253"));
+        assertTrue(index.getContaining("943512530").isEmpty());
+        assertTrue(index.getContaining("000").isEmpty());
+    }
+
+    @Test
+    public void getContaining_fragmentWithAllTrigramsButNotContained_returnsEmptySet() {
+        // both trigrams of 1212 are in 12312, but 1212 is not
+        index.add("dan", "12312");
+        assertTrue(index.getContaining("1212").isEmpty());
+    }
+
+    @Test
+    public void getContaining_fragmentShorterThanTrigram_checksEveryItem() {
+        assertEquals(Set.of("alice", "carl"), index.getContaining("35"));
+        assertEquals(Set.of("benson"), index.getContaining("8"));
+        assertEquals(Set.of("alice", "benson", "carl"), index.getContaining(""));
+    }
+
+    @Test
+    public void getContaining_differentCase_returnsEmptySet() {
+        index.add("dan", "dan@example.com");
+        assertEquals(Set.of("dan"), index.getContaining("dan@"));
+        assertTrue(index.getContaining("DAN@").isEmpty());
+    }
+
+    @Test
+    public void remove_addedItem_removesItemOnly() {
+        index.remove("alice", "94351253");
+        assertEquals(Set.of("carl"), index.getContaining("35"));
+        assertTrue(index.getContaining("9435").isEmpty());
+        assertEquals(Set.of("benson", "carl"), index.getContaining(""));
+    }
+
+    @Test
+    public void remove_textWithRepeatedTrigrams_removesItem() {
+        index.add("dan", "aabaab");
+        index.remove("dan", "aabaab");
+        assertTrue(index.getContaining("aab").isEmpty());
+        assertEquals(Set.of("benson"), index.getContaining("987"));
+    }
+
+    @Test
+    public void clear_removesAllItems() {
+        index.clear();
+        assertTrue(index.getContaining("").isEmpty());
+        assertTrue(index.getContaining("943").isEmpty());
+        assertEquals(0, index.size());
+        assertEquals(0, index.getEntryCount());
+    }
+
+    @Test
+    public void size_addAndRemove_countsDistinctTrigrams() {
+        SubstringIndex<String> emptyIndex = new SubstringIndex<>();
+        emptyIndex.add("alice", "abab");
+        // aba and bab
+        assertEquals(2, emptyIndex.size());
+        emptyIndex.add("benson", "abc");
+        assertEquals(3, emptyIndex.size());
+        emptyIndex.remove("alice", "abab");
+        assertEquals(1, emptyIndex.size());
+        emptyIndex.remove("benson", "abc");
+        assertEquals(0, emptyIndex.size());
+    }
+
+    @Test
+    public void getEntryCount_manyPhoneNumbers_growsLinearlyWithTextLength() {
+        SubstringIndex<Integer> phoneIndex = new SubstringIndex<>();
+        Random random = new Random(42);
+        int count = 10_000;
+        for (int i = 0; i < count; i++) {
+            phoneIndex.add(i, String.valueOf(80_000_000 + random.nextInt(20_000_000)));
+        }
+
+        // each item is kept once per distinct trigram of its 8 digit number, and there are only 1,000 trigrams
+        assertTrue(phoneIndex.getEntryCount() <= count * 6);
+        assertTrue(phoneIndex.size() <= 1_000);
+        assertEquals(count, phoneIndex.getContaining("").size());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TokenIndexTest {
+
+    private final TokenIndex<String> tokenIndex = new TokenIndex<>();
+
+    @BeforeEach
+    public void setUp() {
+        tokenIndex.add("alice", "Alice Pauline");
+        tokenIndex.add("benson", "Benson Meier");
+        tokenIndex.add("daniel", "Daniel Meier");
+    }
+
+    @Test
+    public void get_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tokenIndex.get(null));
+    }
+
+    @Test
+    public void get_wholeWordIgnoringCase_returnsItems() {
+        assertEquals(Set.of("benson", "daniel"), tokenIndex.get("mEIER"));
+        assertEquals(Set.of("alice"), tokenIndex.get("  alice  "));
+    }
+
+    @Test
+    public void get_partOfWord_returnsEmptySet() {
+        assertTrue(tokenIndex.get("Mei").isEmpty());
+        assertTrue(tokenIndex.get("Alice Pauline").isEmpty());
+    }
+
+    @Test
+    public void getAnyOf_returnsUnionOfWords() {
+        assertEquals(Set.of("alice", "benson", "daniel"), tokenIndex.getAnyOf(List.of("pauline", "Meier")));
+        assertTrue(tokenIndex.getAnyOf(List.of()).isEmpty());
+    }
+
+    @Test
+    public void remove_removesItemFromAllWords() {
+        tokenIndex.remove("benson", "Benson Meier");
+        assertTrue(tokenIndex.get("Benson").isEmpty());
+        assertEquals(Set.of("daniel"), tokenIndex.get("Meier"));
+    }
+
+    @Test
+    public void size_countsDistinctWordsIgnoringCase() {
+        // alice, pauline, benson, meier and daniel
+        assertEquals(5, tokenIndex.size());
+        tokenIndex.add("carl", "carl MEIER");
+        assertEquals(6, tokenIndex.size());
+        tokenIndex.remove("alice", "Alice Pauline");
+        assertEquals(4, tokenIndex.size());
+    }
+
+    @Test
+    public void clear_removesAllItems() {
+        tokenIndex.clear();
+        assertTrue(tokenIndex.getAnyOf(List.of("Alice", "Meier")).isEmpty());
+    }
+
+    @Test
+    public void normalise_matchesEqualsIgnoreCase() {
+        assertEquals(TokenIndex.normalise("ALICE"), TokenIndex.normalise("alice"));
+        // the dotless i and the dotted capital I are equal to i and I ignoring case
+        String dotless = "\u0131I";
+        String dotted = "i\u0130";
+        assertEquals(dotless.equalsIgnoreCase(dotted),
+                TokenIndex.normalise(dotless).equals(TokenIndex.normalise(dotted)));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private static final String BUKIT_TIMAH = "12 Bukit Timah Road, 259708";
+    private static final String BUKIT_BATOK = "3 bukit batok street, 650003";
+    private static final String JURONG = "Jurong West Ave 1, 640001";
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(BUKIT_TIMAH);
+        index.add(BUKIT_BATOK);
+        index.add(JURONG);
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getTextsContaining_fragment_returnsTextsContainingFragmentIgnoringCase() {
+        assertEquals(Set.of(BUKIT_TIMAH, BUKIT_BATOK), index.getTextsContaining("BUKIT"));
+        assertEquals(Set.of(BUKIT_TIMAH), index.getTextsContaining("t Tim"));
+        assertEquals(Set.of(BUKIT_BATOK, JURONG), index.getTextsContaining("000"));
+        assertEquals(Set.of(BUKIT_TIMAH), index.getTextsContaining(BUKIT_TIMAH));
+
+        // every trigram of the fragment is in some text, but not all in the same one
+        assertTrue(index.getTextsContaining("bukit west").isEmpty());
+        assertTrue(index.getTextsContaining("Tampines").isEmpty());
+    }
+
+    @Test
+    public void getTextsContaining_fragmentShorterThanTrigram_checksEveryText() {
+        assertEquals(Set.of(BUKIT_TIMAH, JURONG), index.getTextsContaining("1"));
+        assertEquals(Set.of(BUKIT_TIMAH, BUKIT_BATOK, JURONG), index.getTextsContaining(""));
+    }
+
+    @Test
+    public void remove_textAddedTwice_keptUntilRemovedTwice() {
+        index.add(JURONG);
+        index.remove(JURONG);
+        assertEquals(Set.of(JURONG), index.getTextsContaining("jurong"));
+
+        index.remove(JURONG);
+        assertTrue(index.getTextsContaining("jurong").isEmpty());
+        assertEquals(Set.of(BUKIT_BATOK), index.getTextsContaining("000"));
+    }
+
+    @Test
+    public void size_countsDistinctTrigramsIgnoringCase() {
+        TrigramIndex emptyIndex = new TrigramIndex();
+        emptyIndex.add("abcd");
+        assertEquals(2, emptyIndex.size());
+        emptyIndex.add("BCDE");
+        assertEquals(3, emptyIndex.size());
+        emptyIndex.remove("abcd");
+        assertEquals(2, emptyIndex.size());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.property;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,4 +28,20 @@ public class SizeTest {
         assertEquals(false, Size.isValidSize("99"));
         assertEquals(false, Size.isValidSize("abcd"));
     }
+
+    @Test
+    public void getSquareFeet() {
+        assertTrue(new Size("9999").isKnown());
+        assertEquals(9999, new Size("9999").getSquareFeet());
+        assertFalse(new Size("N/A").isKnown());
+        assertFalse(new Size("").isKnown());
+    }
+
+    @Test
+    public void isBiggerThan() {
+        assertTrue(new Size("1000").isBiggerThan(new Size("999")));
+        assertFalse(new Size("999").isBiggerThan(new Size("999")));
+        assertFalse(new Size("").isBiggerThan(new Size("999")));
+        assertFalse(new Size("999").isSmallerThan(new Size("")));
+    }
 }
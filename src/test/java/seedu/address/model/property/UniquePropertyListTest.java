@@ -2,9 +2,12 @@ package seedu.address.model.property;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +43,35 @@ public class UniquePropertyListTest {
         assertThrows(DuplicatePropertyException.class, () -> uniquePropertyList.add(property1));
     }
 
+    @Test
+    public void replaceAll_validReplacements_replacesPropertiesInPlace() {
+        uniquePropertyList.setProperties(List.of(property1, property2));
+        Property editedProperty1 = new Property(property1.getFullName(), property1.getAddress(),
+                property1.getPrice(), property1.getSize(), property1.getDescription(), new ClientName("Amy Tan"));
+
+        uniquePropertyList.replaceAll(Map.of(property1, editedProperty1));
+
+        assertEquals(List.of(editedProperty1, property2), uniquePropertyList.asUnmodifiableObservableList());
+        assertTrue(uniquePropertyList.contains(editedProperty1));
+    }
+
+    @Test
+    public void replaceAll_editedPropertyDuplicatesUnreplacedProperty_throwsDuplicatePropertyException() {
+        uniquePropertyList.setProperties(List.of(property1, property2));
+        Property editedProperty2 = new Property(property1.getFullName(), property2.getAddress(),
+                property2.getPrice(), property2.getSize(), property2.getDescription(), property2.getOwner());
+
+        assertThrows(DuplicatePropertyException.class, () ->
+                uniquePropertyList.replaceAll(Map.of(property2, editedProperty2)));
+        assertEquals(List.of(property1, property2), uniquePropertyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_targetPropertyNotInList_throwsPropertyNotFoundException() {
+        assertThrows(PropertyNotFoundException.class, () ->
+                uniquePropertyList.replaceAll(Map.of(property1, property2)));
+    }
+
     @Test
     public void remove_property_success() {
         uniquePropertyList.add(property1);
@@ -78,4 +110,21 @@ public class UniquePropertyListTest {
         assertThrows(DuplicatePropertyException.class, () -> uniquePropertyList
                 .setProperties(List.of(property1, property1)));
     }
+
+    @Test
+    public void getPropertiesWithSizeInRange_followsChangesToList() {
+        Property propertyWithoutSize = new Property(new PropertyName("Punggol Ridges"), new Address("1 Punggol Rd"),
+                new Price(900L), Optional.empty(), Optional.empty(), new ClientName("Carl Kurz"));
+        uniquePropertyList.setProperties(List.of(property1, property2, propertyWithoutSize));
+        assertEquals(Set.of(property1, property2), uniquePropertyList.getPropertiesWithSizeInRange(800, 1000));
+        assertEquals(Set.of(property2), uniquePropertyList.getPropertiesWithSizeInRange(0, 999));
+        assertEquals(Set.of(propertyWithoutSize), uniquePropertyList.getPropertiesWithoutSize());
+
+        Property smallerProperty1 = new Property(property1.getFullName(), property1.getAddress(), property1.getPrice(),
+                Optional.of(new Size("700")), property1.getDescription(), property1.getOwner());
+        uniquePropertyList.setProperty(property1, smallerProperty1);
+        uniquePropertyList.remove(propertyWithoutSize);
+        assertEquals(Set.of(smallerProperty1, property2), uniquePropertyList.getPropertiesWithSizeInRange(0, 999));
+        assertTrue(uniquePropertyList.getPropertiesWithoutSize().isEmpty());
+    }
 }
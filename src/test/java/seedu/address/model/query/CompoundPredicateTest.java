@@ -0,0 +1,65 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.commons.Price;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.deal.DealStatus;
+import seedu.address.model.deal.predicates.DealPriceAbovePredicate;
+import seedu.address.model.deal.predicates.DealStatusPredicate;
+import seedu.address.testutil.DealBuilder;
+
+public class CompoundPredicateTest {
+
+    private final DealStatusPredicate pendingPredicate = new DealStatusPredicate(DealStatus.PENDING);
+    private final DealPriceAbovePredicate priceAbovePredicate = new DealPriceAbovePredicate(new Price(1000L));
+
+    @Test
+    public void allOf_noTerms_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CompoundPredicate.allOf(List.of()));
+    }
+
+    @Test
+    public void test_allOf() {
+        CompoundPredicate<Deal> predicate = CompoundPredicate.allOf(List.of(pendingPredicate, priceAbovePredicate));
+        assertTrue(predicate.test(new DealBuilder().withStatus(DealStatus.PENDING).withPrice(2000L).build()));
+        assertFalse(predicate.test(new DealBuilder().withStatus(DealStatus.PENDING).withPrice(500L).build()));
+        assertFalse(predicate.test(new DealBuilder().withStatus(DealStatus.OPEN).withPrice(2000L).build()));
+    }
+
+    @Test
+    public void test_anyOf() {
+        CompoundPredicate<Deal> predicate = CompoundPredicate.anyOf(List.of(pendingPredicate, priceAbovePredicate));
+        assertTrue(predicate.test(new DealBuilder().withStatus(DealStatus.PENDING).withPrice(500L).build()));
+        assertTrue(predicate.test(new DealBuilder().withStatus(DealStatus.OPEN).withPrice(2000L).build()));
+        assertFalse(predicate.test(new DealBuilder().withStatus(DealStatus.OPEN).withPrice(500L).build()));
+    }
+
+    @Test
+    public void getEstimatedSelectivity() {
+        // each of the three statuses is equally likely, and half of the deals are above any price
+        assertEquals(1.0 / 6, CompoundPredicate.allOf(List.of(pendingPredicate, priceAbovePredicate))
+                .getEstimatedSelectivity(), 1e-9);
+        assertEquals(2.0 / 3, CompoundPredicate.anyOf(List.of(pendingPredicate, priceAbovePredicate))
+                .getEstimatedSelectivity(), 1e-9);
+    }
+
+    @Test
+    public void equals() {
+        CompoundPredicate<Deal> allOf = CompoundPredicate.allOf(List.of(pendingPredicate, priceAbovePredicate));
+
+        assertTrue(allOf.equals(allOf));
+        assertTrue(allOf.equals(CompoundPredicate.allOf(List.of(pendingPredicate, priceAbovePredicate))));
+        assertFalse(allOf.equals(null));
+        assertNotEquals(allOf, CompoundPredicate.anyOf(List.of(pendingPredicate, priceAbovePredicate)));
+        assertNotEquals(allOf, CompoundPredicate.allOf(List.of(priceAbovePredicate, pendingPredicate)));
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.CandidateSetPredicate;
+
+public class QueryPlannerTest {
+
+    private static final List<Integer> NUMBERS = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+
+    private final List<String> testedTerms = new ArrayList<>();
+    private QueryPlanner<Integer> planner;
+    private long modificationCount;
+    private int lookupCount;
+
+    @BeforeEach
+    public void setUp() {
+        planner = new QueryPlanner<Integer>(() -> modificationCount)
+                .addIndex(DivisibleBy.class, term -> {
+                    lookupCount++;
+                    return NUMBERS.stream().filter(term).collect(Collectors.toSet());
+                });
+    }
+
+    @Test
+    public void plan_singleTermWithoutIndex_returnsTerm() {
+        Predicate<Integer> term = new Term("cheap", 1, 0.5, number -> number > 3);
+        assertSame(term, planner.plan(term));
+    }
+
+    @Test
+    public void plan_singleIndexedTerm_looksUpIndexOnce() {
+        Predicate<Integer> planned = planner.plan(new DivisibleBy(3));
+        assertEquals(List.of(3, 6, 9, 12), filter(planned));
+        assertEquals(List.of(3, 6, 9, 12), filter(planned));
+        assertEquals(1, lookupCount);
+
+        // the index is looked up again after the data changes
+        modificationCount++;
+        filter(planned);
+        assertEquals(2, lookupCount);
+    }
+
+    @Test
+    public void plan_conjunction_testsTermsMostLikelyToFailFirst() {
+        Term expensive = new Term("expensive", 8, 0.2, number -> number % 2 == 0);
+        Term cheap = new Term("cheap", 1, 0.2, number -> number > 6);
+        Term unselective = new Term("unselective", 1, 0.95, number -> number < 12);
+        Predicate<Integer> planned = planner.plan(CompoundPredicate.allOf(List.of(expensive, unselective, cheap)));
+
+        assertEquals(List.of(cheap, expensive, unselective), ((CompoundPredicate<Integer>) planned).getTerms());
+        assertFalse(planned.test(5));
+        assertEquals(List.of("cheap"), testedTerms);
+        assertEquals(List.of(8, 10), filter(planned));
+    }
+
+    @Test
+    public void plan_conjunctionWithIndexedTerms_checksIntersectionOfCandidatesFirst() {
+        Term cheap = new Term("cheap", 1, 0.5, number -> number > 6);
+        Predicate<Integer> planned = planner.plan(
+                CompoundPredicate.allOf(List.of(cheap, new DivisibleBy(2), new DivisibleBy(3))));
+
+        List<Predicate<Integer>> plannedTerms = ((CompoundPredicate<Integer>) planned).getTerms();
+        assertTrue(plannedTerms.get(0) instanceof CandidateSetPredicate);
+        assertEquals(cheap, plannedTerms.get(1));
+
+        // numbers that are not candidates are rejected without testing the other terms
+        assertFalse(planned.test(9));
+        assertTrue(testedTerms.isEmpty());
+        assertEquals(List.of(12), filter(planned));
+    }
+
+    @Test
+    public void plan_disjunction_testsTermsMostLikelyToPassFirst() {
+        Term rare = new Term("rare", 1, 0.1, number -> number == 1);
+        Term common = new Term("common", 1, 0.8, number -> number > 2);
+        Predicate<Integer> planned = planner.plan(
+                CompoundPredicate.anyOf(List.of(rare, new DivisibleBy(5), common)));
+
+        List<Predicate<Integer>> plannedTerms = ((CompoundPredicate<Integer>) planned).getTerms();
+        assertTrue(plannedTerms.get(0) instanceof CandidateSetPredicate);
+        assertEquals(List.of(common, rare), plannedTerms.subList(1, 3));
+        assertEquals(List.of(1, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12), filter(planned));
+    }
+
+    @Test
+    public void plan_disjunctionOfIndexedTerms_returnsUnionOfCandidates() {
+        Predicate<Integer> planned = planner.plan(
+                CompoundPredicate.anyOf(List.of(new DivisibleBy(4), new DivisibleBy(5))));
+        assertTrue(planned instanceof CandidateSetPredicate);
+        assertEquals(List.of(4, 5, 8, 10, 12), filter(planned));
+    }
+
+    @Test
+    public void plan_conjunctionOfRangeBounds_looksUpSingleRange() {
+        List<String> lookedUpRanges = new ArrayList<>();
+        planner.addRangeIndex(Above.class, above -> above.bound + 1, Below.class, below -> below.bound - 1,
+                (min, max) -> {
+                    lookedUpRanges.add(min + ".." + max);
+                    return NUMBERS.stream().filter(number -> number >= min && number <= max)
+                            .collect(Collectors.toSet());
+                });
+
+        Predicate<Integer> planned = planner.plan(CompoundPredicate.allOf(List.of(new Below(9), new Above(3),
+                new Below(11))));
+        assertEquals(List.of(4, 5, 6, 7, 8), filter(planned));
+        assertEquals(List.of("4..8"), lookedUpRanges);
+
+        lookedUpRanges.clear();
+        planned = planner.plan(CompoundPredicate.anyOf(List.of(new Below(3), new Above(10))));
+        assertEquals(List.of(1, 2, 11, 12), filter(planned));
+        assertEquals(List.of("-9223372036854775808..2", "11..9223372036854775807"), lookedUpRanges);
+    }
+
+    private static List<Integer> filter(Predicate<Integer> predicate) {
+        return NUMBERS.stream().filter(predicate).toList();
+    }
+
+    /**
+     * A term with given estimates that records when it is tested.
+     */
+    private class Term implements Predicate<Integer>, QueryTerm {
+        private final String name;
+        private final double cost;
+        private final double selectivity;
+        private final Predicate<Integer> test;
+
+        Term(String name, double cost, double selectivity, Predicate<Integer> test) {
+            this.name = name;
+            this.cost = cost;
+            this.selectivity = selectivity;
+            this.test = test;
+        }
+
+        @Override
+        public boolean test(Integer number) {
+            testedTerms.add(name);
+            return test.test(number);
+        }
+
+        @Override
+        public double getEstimatedCost() {
+            return cost;
+        }
+
+        @Override
+        public double getEstimatedSelectivity() {
+            return selectivity;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * A term that can be answered from an index.
+     */
+    private static class DivisibleBy implements Predicate<Integer> {
+        private final int divisor;
+
+        DivisibleBy(int divisor) {
+            this.divisor = divisor;
+        }
+
+        @Override
+        public boolean test(Integer number) {
+            return number % divisor == 0;
+        }
+    }
+
+    /**
+     * A lower bound that can be answered from a range index.
+     */
+    private static class Above implements Predicate<Integer> {
+        private final int bound;
+
+        Above(int bound) {
+            this.bound = bound;
+        }
+
+        @Override
+        public boolean test(Integer number) {
+            return number > bound;
+        }
+    }
+
+    /**
+     * An upper bound that can be answered from a range index.
+     */
+    private static class Below implements Predicate<Integer> {
+        private final int bound;
+
+        Below(int bound) {
+            this.bound = bound;
+        }
+
+        @Override
+        public boolean test(Integer number) {
+            return number < bound;
+        }
+    }
+}
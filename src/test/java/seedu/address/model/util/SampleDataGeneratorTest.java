@@ -0,0 +1,77 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientName;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyName;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class SampleDataGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generateAddressBook_sizeTooSmall_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> SampleDataGenerator.generateAddressBook(1, 1));
+    }
+
+    @Test
+    public void generateAddressBook_sameSeed_sameAddressBook() {
+        assertEquals(SampleDataGenerator.generateAddressBook(42, 50), SampleDataGenerator.generateAddressBook(42, 50),
+                "Generating with the same seed should give the same address book");
+        assertFalse(SampleDataGenerator.generateAddressBook(42, 50)
+                .equals(SampleDataGenerator.generateAddressBook(43, 50)),
+                "Generating with different seeds should give different address books");
+    }
+
+    @Test
+    public void generateAddressBook_validSize_validReferences() {
+        AddressBook addressBook = SampleDataGenerator.generateAddressBook(7, 200);
+        assertEquals(200, addressBook.getClientList().size(), "Unexpected number of clients");
+        assertEquals(200, addressBook.getPropertyList().size(), "Unexpected number of properties");
+        assertEquals(200, addressBook.getDealList().size(), "Unexpected number of deals");
+        assertEquals(200, addressBook.getEventList().size(), "Unexpected number of events");
+
+        Set<ClientName> clientNames = addressBook.getClientList().stream()
+                .map(Client::getFullName).collect(Collectors.toSet());
+        Set<PropertyName> propertyNames = addressBook.getPropertyList().stream()
+                .map(Property::getFullName).collect(Collectors.toSet());
+        for (Property property : addressBook.getPropertyList()) {
+            assertTrue(clientNames.contains(property.getOwner()), "Unknown owner of " + property);
+        }
+        for (Deal deal : addressBook.getDealList()) {
+            assertTrue(propertyNames.contains(deal.getPropertyName()), "Unknown property of " + deal);
+            assertTrue(clientNames.contains(deal.getBuyer()), "Unknown buyer of " + deal);
+            assertFalse(deal.getBuyer().equals(deal.getSeller()), "Buyer is the seller of " + deal);
+        }
+        for (Event event : addressBook.getEventList()) {
+            assertTrue(clientNames.contains(event.getClientName()), "Unknown client of " + event);
+            assertTrue(propertyNames.contains(event.getPropertyName()), "Unknown property of " + event);
+        }
+    }
+
+    @Test
+    public void generateAddressBook_savedAndLoaded_sameAddressBook() throws Exception {
+        AddressBook addressBook = SampleDataGenerator.generateAddressBook(11, 100);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("generated.json"));
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, storage.readAddressBook().orElseThrow(),
+                "The generated address book should survive saving and loading");
+    }
+}
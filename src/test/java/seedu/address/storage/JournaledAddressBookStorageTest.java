@@ -0,0 +1,351 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.IDA;
+import static seedu.address.testutil.TypicalDeals.DEAL1;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalEvents.EVENT4;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.deal.Deal;
+import seedu.address.model.event.Event;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.ClientBuilder;
+import seedu.address.testutil.TypicalClients;
+import seedu.address.testutil.TypicalProperties;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JsonAddressBookStorage snapshotStorage;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        snapshotStorage = new JsonAddressBookStorage(filePath);
+        storage = new JournaledAddressBookStorage(snapshotStorage);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesDataFileWithoutJournal() throws Exception {
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+
+        assertEquals(original, snapshotStorage.readAddressBook().get());
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendsToJournal() throws Exception {
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        String dataFileContent = Files.readString(filePath);
+
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        original.removeClient(ALICE);
+        original.removeEvent(EVENT1);
+        storage.saveAddressBook(original);
+        Client editedIda = new ClientBuilder(IDA).withEmail("ida@example.com").build();
+        original.addClient(IDA);
+        original.setClient(IDA, editedIda);
+        storage.saveAddressBook(original);
+
+        // the data file is left untouched and each save appends a single line after the header
+        assertEquals(dataFileContent, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(snapshotStorage);
+        assertEquals(original, restartedStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_doesNotAppendToJournal() throws Exception {
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_sameListVersions_doesNotCompareLists() throws Exception {
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+
+        // lists with the versions last saved are taken to be unchanged without looking at their entries
+        AddressBook changed = new AddressBook(original);
+        changed.removeClient(ALICE);
+        storage.saveAddressBook(new VersionedAddressBookStub(changed, original));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void saveAddressBook_renamedClient_appendsRecordedChanges() throws Exception {
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+
+        // the client and the events referring to the client are replaced in place
+        original.renameClient(ALICE, new ClientBuilder(ALICE).withClientName("Alice Tan").build());
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(snapshotStorage);
+        assertEquals(original, restartedStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changesNotKnown_compactsJournal() throws Exception {
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        // the lists of the copy did not record the changes made since the last save
+        AddressBook copy = new AddressBook(original);
+        copy.addClient(IDA);
+        storage.saveAddressBook(copy);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(copy, snapshotStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_compactionThresholdReached_compactsJournal() throws Exception {
+        JournaledAddressBookStorage compactingStorage = new JournaledAddressBookStorage(snapshotStorage, 2);
+        AddressBook original = getAddressBook();
+        compactingStorage.saveAddressBook(original);
+
+        original.addClient(HOON);
+        compactingStorage.saveAddressBook(original);
+        original.addClient(IDA);
+        compactingStorage.saveAddressBook(original);
+        assertTrue(Files.exists(compactingStorage.getJournalFilePath()));
+
+        original.removeClient(HOON);
+        compactingStorage.saveAddressBook(original);
+        assertFalse(Files.exists(compactingStorage.getJournalFilePath()));
+        assertEquals(original, snapshotStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_dataFileChangedAfterJournal_ignoresJournal() throws Exception {
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook overwritten = getAddressBook();
+        overwritten.removeEvent(EVENT2);
+        snapshotStorage.saveAddressBook(overwritten);
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(snapshotStorage);
+        assertEquals(overwritten, restartedStorage.readAddressBook().get());
+
+        // the next save starts a new journal from the data file
+        overwritten.addClient(IDA);
+        restartedStorage.saveAddressBook(overwritten);
+        assertFalse(Files.exists(restartedStorage.getJournalFilePath()));
+        assertEquals(overwritten, snapshotStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_replaysCompleteEntries() throws Exception {
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(storage.getJournalFilePath(), "{\"changes\":[{\"list\":\"cli", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(snapshotStorage);
+        assertEquals(original, restartedStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_entryDoesNotFitData_replaysEntriesBeforeIt() throws Exception {
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        appendLine("{\"changes\":[{\"list\":\"clients\",\"from\":100,\"removed\":1}]}");
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(snapshotStorage);
+        assertEquals(original, restartedStorage.readAddressBook().get());
+        assertFalse(Files.exists(restartedStorage.getJournalFilePath()));
+        assertEquals(1, getBadJournalFilePaths().size());
+    }
+
+    @Test
+    public void readAddressBook_corruptMiddleEntry_keepsSnapshotAndJournal() throws Exception {
+        AddressBook edited = getAddressBook();
+        storage.saveAddressBook(edited);
+        edited.addClient(HOON);
+        storage.saveAddressBook(edited);
+        edited.addClient(IDA);
+        storage.saveAddressBook(edited);
+        List<String> lines = Files.readAllLines(storage.getJournalFilePath(), StandardCharsets.UTF_8);
+        lines.set(1, lines.get(1).replace("\"removed\"", "\"unknown\"").replace("\"clients\"", "\"client\""));
+        Files.write(storage.getJournalFilePath(), lines, StandardCharsets.UTF_8);
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(snapshotStorage);
+        AddressBook readBack = new AddressBook(restartedStorage.readAddressBook().get());
+        assertEquals(getAddressBook(), readBack);
+
+        // the next save writes the data file without discarding the entries of the journal
+        readBack.addClient(HOON);
+        restartedStorage.saveAddressBook(readBack);
+        assertEquals(readBack, snapshotStorage.readAddressBook().get());
+        List<Path> badJournalFilePaths = getBadJournalFilePaths();
+        assertEquals(1, badJournalFilePaths.size());
+        assertEquals(lines, Files.readAllLines(badJournalFilePaths.get(0), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readAddressBook_replayedEntriesDuplicateClient_keepsSnapshotAndJournal() throws Exception {
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        appendLine(Files.readAllLines(storage.getJournalFilePath(), StandardCharsets.UTF_8).get(1));
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(snapshotStorage);
+        assertEquals(getAddressBook(), restartedStorage.readAddressBook().get());
+        assertFalse(Files.exists(restartedStorage.getJournalFilePath()));
+        assertEquals(1, getBadJournalFilePaths().size());
+    }
+
+    @Test
+    public void readAddressBook_otherFile_doesNotReplayJournal() throws Exception {
+        AddressBook original = getAddressBook();
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertEquals(original, storage.readAddressBook(otherFilePath).get());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void getBytesWritten_dataFileAndJournal_countsBoth() throws Exception {
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        long dataFileSize = Files.size(filePath);
+        assertEquals(dataFileSize, storage.getBytesWritten());
+
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(dataFileSize + Files.size(storage.getJournalFilePath()), storage.getBytesWritten());
+    }
+
+    /**
+     * Returns an address book with entries of every kind that can be written to and read from the data file.
+     */
+    private static AddressBook getAddressBook() {
+        AddressBook addressBook = TypicalClients.getTypicalAddressBook();
+        TypicalProperties.getTypicalProperties().forEach(addressBook::addProperty);
+        addressBook.addDeal(DEAL1);
+        addressBook.addEvent(EVENT1);
+        addressBook.addEvent(EVENT2);
+        addressBook.addEvent(EVENT4);
+        return addressBook;
+    }
+
+    /**
+     * An address book with the lists of one address book and the list versions of another.
+     */
+    private static class VersionedAddressBookStub implements ReadOnlyAddressBook {
+        private final ReadOnlyAddressBook lists;
+        private final ReadOnlyAddressBook versions;
+
+        VersionedAddressBookStub(ReadOnlyAddressBook lists, ReadOnlyAddressBook versions) {
+            this.lists = lists;
+            this.versions = versions;
+        }
+
+        @Override
+        public ObservableList<Client> getClientList() {
+            return lists.getClientList();
+        }
+
+        @Override
+        public ObservableList<Deal> getDealList() {
+            return lists.getDealList();
+        }
+
+        @Override
+        public ObservableList<Event> getEventList() {
+            return lists.getEventList();
+        }
+
+        @Override
+        public ObservableList<Property> getPropertyList() {
+            return lists.getPropertyList();
+        }
+
+        @Override
+        public long getClientListVersion() {
+            return versions.getClientListVersion();
+        }
+
+        @Override
+        public long getDealListVersion() {
+            return versions.getDealListVersion();
+        }
+
+        @Override
+        public long getEventListVersion() {
+            return versions.getEventListVersion();
+        }
+
+        @Override
+        public long getPropertyListVersion() {
+            return versions.getPropertyListVersion();
+        }
+    }
+
+    private List<Path> getBadJournalFilePaths() throws IOException {
+        String prefix = storage.getJournalFilePath().getFileName()
+                + JournaledAddressBookStorage.BAD_JOURNAL_FILE_EXTENSION;
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix)).collect(Collectors.toList());
+        }
+    }
+
+    private void appendLine(String line) throws IOException {
+        Files.write(storage.getJournalFilePath(), List.of(line), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+}
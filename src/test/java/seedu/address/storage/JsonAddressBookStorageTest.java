@@ -2,19 +2,24 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.FlightRecorderUtil.recordEvents;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.HOON;
 import static seedu.address.testutil.TypicalClients.IDA;
 import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -86,6 +91,35 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAndReadAddressBook_recording_recordsEventsAndBytesWritten() throws Throwable {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        List<RecordedEvent> events = recordEvents(() -> {
+            jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+            jsonAddressBookStorage.readAddressBook();
+        }, "seedu.address.AddressBookSave", "seedu.address.AddressBookRead");
+
+        assertEquals(Files.size(filePath), jsonAddressBookStorage.getBytesWritten());
+        assertEquals(2, events.size());
+        assertEquals(filePath.toString(), events.get(0).getString("filePath"));
+        assertEquals(Files.size(filePath), events.get(0).getLong("bytesWritten"));
+        assertEquals("seedu.address.AddressBookRead", events.get(1).getEventType().getName());
+        assertTrue(events.get(1).getBoolean("isFound"));
+    }
+
+    @Test
+    public void saveAddressBook_compact_writesSingleLine() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
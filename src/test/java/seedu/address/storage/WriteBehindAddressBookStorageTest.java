@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.IDA;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_thenModified_writesAddressBookAsSaved() throws Exception {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook saved = new AddressBook(original);
+
+        // changes after saving are not written
+        original.addClient(HOON);
+        storage.flushAddressBook();
+
+        assertEquals(saved, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(saved, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journaledStorage_appendsChangesToJournal() throws Exception {
+        JournaledAddressBookStorage journaledStorage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(journaledStorage);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+        String dataFileContent = Files.readString(filePath);
+
+        // only the changes recorded by the lists are passed on, and the journaled storage appends them
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        original.removeClient(HOON);
+        original.addClient(IDA);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        assertEquals(dataFileContent, Files.readString(filePath));
+        assertTrue(Files.exists(journaledStorage.getJournalFilePath()));
+        assertEquals(original, new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath))
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_savesWhileWriting_coalescesIntoOneWrite() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch writeAllowed = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage blockingStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writeStarted.countDown();
+                try {
+                    writeAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                writeCount.incrementAndGet();
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(blockingStorage);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        writeStarted.await();
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        original.addClient(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(1, storage.getPendingSaveCount());
+        writeAllowed.countDown();
+        storage.flushAddressBook();
+
+        assertEquals(2, writeCount.get());
+        assertEquals(1L, storage.getCoalescedSaveCount());
+        assertEquals(0, storage.getPendingSaveCount());
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_writeTimeConsumers_passedTimeOfWriteIncludingSave() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch writeAllowed = new CountDownLatch(1);
+        JsonAddressBookStorage blockingStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writeStarted.countDown();
+                try {
+                    writeAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(blockingStorage);
+        List<Long> writeTimes = Collections.synchronizedList(new ArrayList<>());
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, writeTimes::add);
+        writeStarted.await();
+        original.addClient(HOON);
+        storage.saveAddressBook(original, writeTimes::add);
+        original.addClient(IDA);
+        storage.saveAddressBook(original, writeTimes::add);
+        assertTrue(writeTimes.isEmpty(), "Nothing should be timed before it is written");
+        writeAllowed.countDown();
+        storage.flushAddressBook();
+
+        assertEquals(3, writeTimes.size());
+        assertEquals(writeTimes.get(1), writeTimes.get(2), "Coalesced saves should share the time of their write");
+        assertTrue(writeTimes.stream().allMatch(writeTime -> writeTime > 0));
+    }
+
+    @Test
+    public void saveAddressBook_written_recordsLastSave() throws Exception {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(0L, storage.getLastSaveBytes());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flushAddressBook();
+        long fileSize = Files.size(filePath);
+        assertEquals(fileSize, storage.getLastSaveBytes());
+        assertEquals(fileSize, storage.getBytesWritten());
+        assertTrue(storage.getLastSaveNanos() > 0);
+
+        storage.saveAddressBook(new AddressBook());
+        storage.flushAddressBook();
+        assertEquals(Files.size(filePath), storage.getLastSaveBytes());
+        assertEquals(fileSize + Files.size(filePath), storage.getBytesWritten());
+    }
+
+    @Test
+    public void flushAddressBook_saveFailed_throwsFailureOnce() throws Exception {
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(failingStorage);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        IOException thrown = null;
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            thrown = e;
+        }
+        assertSame(DUMMY_IO_EXCEPTION, thrown);
+
+        // the failure has been reported
+        storage.checkAddressBookSaved();
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.testutil;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.function.Executable;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * A utility class for checking the Java Flight Recorder events committed by the app.
+ */
+public class FlightRecorderUtil {
+
+    /**
+     * Runs {@code executable} while recording the events named {@code eventNames}, however short they are, and
+     * returns those events in the order they were committed. Other events of the app are recorded too, as events are
+     * enabled by default, but they are left out.
+     */
+    public static List<RecordedEvent> recordEvents(Executable executable, String... eventNames) throws Throwable {
+        Path recordingFile = Files.createTempFile("recording", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String eventName : eventNames) {
+                recording.enable(eventName).withoutThreshold();
+            }
+            recording.start();
+            executable.execute();
+            recording.stop();
+            recording.dump(recordingFile);
+            Set<String> names = Set.of(eventNames);
+            return RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(event -> names.contains(event.getEventType().getName()))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+}